@@ -24,4 +24,8 @@ module com.beust.jcommander {
     exports com.beust.jcommander.converters; 
     exports com.beust.jcommander.defaultprovider; 
     exports com.beust.jcommander.validators; 
+
+    requires static java.compiler;
+
+    uses com.beust.jcommander.IParametersBinder;
 }
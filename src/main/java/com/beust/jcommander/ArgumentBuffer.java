@@ -0,0 +1,196 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.beust.jcommander.internal.Maps;
+
+/**
+ * The arguments of a command line, shared by the {@link JCommander} that parses it and
+ * the sub commands it dispatches to. Each of them reads the arguments from its own offset,
+ * so they are neither copied nor expanded again at each level of nested commands.
+ *
+ * An {@code @file} is only expanded when the parser reaches it, since the same token
+ * consumed as the value of an option stays as is. Expanding it pushes the content of the
+ * file on a stack of segments which are read lazily, instead of building a new array
+ * of all the arguments: expanding many large files is linear in the total number of
+ * arguments. Each argument remembers the {@link Include} it comes from, so that nested
+ * {@code @files} can be checked for cycles, and the content of each file is read once
+ * per parse.
+ *
+ * Arguments are indexed from the start of the command line. When the parser
+ * {@link #release releases} the arguments it is done with, they are dropped from the buffer
+ * the next time it needs to grow, so that streaming a large {@code @file} doesn't keep all
+ * of its arguments in memory.
+ */
+class ArgumentBuffer {
+  /**
+   * An {@code @file} being expanded, along with the one that included it, null for the
+   * command line.
+   */
+  record Include(Path path, Include parent, int depth) {}
+
+  /** Arguments left to read, all coming from the same include. */
+  private record Segment(Iterator<String> args, Include include) {}
+
+  /** The arguments read so far, from index {@link #base}. */
+  private String[] args;
+  /** The include each argument comes from, null until an argument is replaced. */
+  private Include[] includes;
+  private int base;
+  /** The index following the last argument read. */
+  private int size;
+  /** The arguments before this index can be dropped. */
+  private int released;
+  /** False as long as {@link #args} is the array passed by the caller. */
+  private boolean owned;
+  /** The arguments left to read, the top segment being read first. */
+  private final Deque<Segment> segments = new ArrayDeque<>();
+  /** The content of the files read so far, by real path. */
+  private final Map<Path, List<String>> files = Maps.newHashMap();
+
+  ArgumentBuffer(String[] args) {
+    // Not copied until an argument is replaced
+    this.args = args;
+    this.size = args.length;
+  }
+
+  /**
+   * @return true if there is an argument at index i, reading the pending segments up to it
+   * if needed.
+   */
+  boolean has(int i) {
+    while (size <= i && !segments.isEmpty()) {
+      Segment segment = segments.peek();
+      if (segment.args().hasNext()) {
+        append(segment.args().next(), segment.include());
+      } else {
+        segments.pop();
+      }
+    }
+    return i < size;
+  }
+
+  private void append(String arg, Include include) {
+    if (size - base == args.length) {
+      int dropped = released - base;
+      if (dropped > args.length / 2) {
+        int length = args.length - dropped;
+        System.arraycopy(args, dropped, args, 0, length);
+        System.arraycopy(includes, dropped, includes, 0, length);
+        Arrays.fill(args, length, args.length, null);
+        Arrays.fill(includes, length, includes.length, null);
+        base = released;
+      } else {
+        int capacity = Math.max(16, args.length * 2);
+        args = Arrays.copyOf(args, capacity);
+        includes = Arrays.copyOf(includes, capacity);
+      }
+    }
+    includes[size - base] = include;
+    args[size++ - base] = arg;
+  }
+
+  String get(int i) {
+    if (i < base || !has(i)) {
+      throw new IndexOutOfBoundsException(i);
+    }
+    return args[i - base];
+  }
+
+  /**
+   * @return the {@code @file} argument i comes from, or null if it comes from the command
+   * line.
+   */
+  Include includeAt(int i) {
+    return owned ? includes[i - base] : null;
+  }
+
+  /**
+   * @return the content of the file with the given real path, read only the first time
+   * it is asked for.
+   */
+  List<String> readOnce(Path path, Function<Path, List<String>> reader) {
+    List<String> result = files.get(path);
+    if (result == null) {
+      result = reader.apply(path);
+      files.put(path, result);
+    }
+    return result;
+  }
+
+  /**
+   * Declare that the arguments before index i won't be read again.
+   */
+  void release(int i) {
+    // The caller's array is never dropped from since the caller holds it anyway
+    if (owned && i > released) {
+      released = Math.min(i, size);
+    }
+  }
+
+  /**
+   * Replace the argument at index i with the arguments of the given include. This only
+   * costs the number of arguments already read past i, which is usually none.
+   */
+  void replace(int i, Include include, Iterator<String> newArgs) {
+    if (!owned) {
+      // The caller's array is never written to, so its tail can be read in place
+      if (i + 1 < size) {
+        segments.push(new Segment(Arrays.asList(args).subList(i + 1, size).iterator(), null));
+      }
+      int capacity = Math.max(16, i * 2);
+      args = Arrays.copyOf(args, capacity);
+      includes = new Include[capacity];
+      owned = true;
+    } else {
+      // Push the arguments read past i back, one segment per include, last one first
+      int end = size;
+      while (end > i + 1) {
+        int start = end - 1;
+        while (start > i + 1 && includes[start - 1 - base] == includes[end - 1 - base]) {
+          start--;
+        }
+        String[] tail = Arrays.copyOfRange(args, start - base, end - base);
+        segments.push(new Segment(Arrays.asList(tail).iterator(), includes[start - base]));
+        end = start;
+      }
+      Arrays.fill(args, i - base, size - base, null);
+      Arrays.fill(includes, i - base, size - base, null);
+    }
+    segments.push(new Segment(newArgs, include));
+    size = i;
+  }
+
+  /**
+   * @return the arguments from index i, joined with spaces.
+   */
+  String toString(int from) {
+    has(Integer.MAX_VALUE);
+    return String.join(" ", Arrays.asList(args).subList(Math.max(from, base) - base, size - base));
+  }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A cache of the arguments read from {@code @files}, which can be shared by the
+ * {@link JCommander} instances of an application parsing many command lines that refer
+ * to the same files.
+ *
+ * Files are identified by their real path, and read again whenever their size or last
+ * modified time changes. The least recently used files are evicted once the cache holds
+ * more than a given number of arguments. This class is thread safe.
+ *
+ * @see JCommander.Builder#atFileCache(AtFileCache)
+ */
+public class AtFileCache {
+  private record Key(Path path, Charset charset) {}
+
+  private record Entry(long size, FileTime lastModified, List<String> args) {}
+
+  private final long maxArgs;
+  private long argCount;
+  private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * @param maxArgs how many arguments this cache holds at most, summed over all its files
+   */
+  public AtFileCache(long maxArgs) {
+    this.maxArgs = maxArgs;
+  }
+
+  /**
+   * @return the arguments of the file with the given real path, read by the reader if
+   * they are not cached or the file changed since they were.
+   */
+  List<String> get(Path path, Charset charset, Function<Path, List<String>> reader) {
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (IOException e) {
+      throw new ParameterException("Could not read file " + path + ": " + e);
+    }
+
+    Key key = new Key(path, charset);
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      if (entry != null && entry.size() == attributes.size()
+          && entry.lastModified().equals(attributes.lastModifiedTime())) {
+        return entry.args();
+      }
+    }
+
+    // Read outside of the lock, a file modified meanwhile is read again next time since
+    // its attributes were read first
+    List<String> args = Collections.unmodifiableList(reader.apply(path));
+    synchronized (entries) {
+      Entry previous = entries.remove(key);
+      if (previous != null) {
+        argCount -= previous.args().size();
+      }
+      if (args.size() <= maxArgs) {
+        entries.put(key, new Entry(attributes.size(), attributes.lastModifiedTime(), args));
+        argCount += args.size();
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (argCount > maxArgs) {
+          argCount -= eldest.next().args().size();
+          eldest.remove();
+        }
+      }
+    }
+    return args;
+  }
+
+  /**
+   * @return how many arguments this cache holds, summed over all its files.
+   */
+  public long size() {
+    synchronized (entries) {
+      return argCount;
+    }
+  }
+
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+      argCount = 0;
+    }
+  }
+}
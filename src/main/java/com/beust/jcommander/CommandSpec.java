@@ -0,0 +1,132 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import com.beust.jcommander.FuzzyMap.IKey;
+import com.beust.jcommander.internal.Maps;
+import com.beust.jcommander.internal.Sets;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.beust.jcommander.internal.Lists;
+
+/**
+ * The compiled description of the parameters of a {@link JCommander}, as found by
+ * {@link JCommander#createDescriptions()} on the objects it parses into.
+ *
+ * A spec is filled once and never modified after {@link #compile()}, so it can be read by
+ * concurrent parses, each of them keeping its own state in a {@link ParseSession}.
+ */
+final class CommandSpec {
+  /**
+   * A {@link ParametersDelegate} field of parent, whose value was object when the spec was
+   * compiled.
+   */
+  record Delegate(Object parent, Parameterized parameterized, Object object) {}
+
+  private final Map<IKey, ParameterDescription> descriptions = Maps.newHashMap();
+  private final Map<Parameterized, ParameterDescription> fields = Maps.newHashMap();
+  private final Map<Parameterized, ParameterDescription> required = Maps.newHashMap();
+  private final Set<IParametersValidator> parametersValidators = Sets.newHashSet();
+  private final List<Delegate> delegates = Lists.newArrayList();
+  private JCommander.MainParameter mainParameter;
+  private boolean compiled;
+
+  private void checkNotCompiled() {
+    if (compiled) {
+      throw new IllegalStateException("This spec is already compiled");
+    }
+  }
+
+  boolean hasOption(String name) {
+    return descriptions.containsKey(new StringKey(name));
+  }
+
+  void addOption(String name, Parameterized parameterized, ParameterDescription pd, boolean isRequired) {
+    checkNotCompiled();
+    fields.put(parameterized, pd);
+    descriptions.put(new StringKey(name), pd);
+    if (isRequired) required.put(parameterized, pd);
+  }
+
+  void setMainParameter(JCommander.MainParameter mainParameter) {
+    checkNotCompiled();
+    this.mainParameter = mainParameter;
+  }
+
+  void addDelegate(Object parent, Parameterized parameterized, Object object) {
+    checkNotCompiled();
+    delegates.add(new Delegate(parent, parameterized, object));
+  }
+
+  void addParametersValidator(IParametersValidator validator) {
+    checkNotCompiled();
+    parametersValidators.add(validator);
+  }
+
+  /**
+   * Freeze this spec.
+   */
+  CommandSpec compile() {
+    compiled = true;
+    return this;
+  }
+
+  /**
+   * @return the description of each option name.
+   */
+  Map<IKey, ParameterDescription> getDescriptions() {
+    return Collections.unmodifiableMap(descriptions);
+  }
+
+  /**
+   * @return the description of each field or method, the main parameter excepted.
+   */
+  Map<Parameterized, ParameterDescription> getFields() {
+    return Collections.unmodifiableMap(fields);
+  }
+
+  /**
+   * @return the descriptions of the required options.
+   */
+  Map<Parameterized, ParameterDescription> getRequired() {
+    return Collections.unmodifiableMap(required);
+  }
+
+  /**
+   * @return the delegates, each one after the delegate that holds it, if any.
+   */
+  List<Delegate> getDelegates() {
+    return Collections.unmodifiableList(delegates);
+  }
+
+  Set<IParametersValidator> getParametersValidators() {
+    return Collections.unmodifiableSet(parametersValidators);
+  }
+
+  /**
+   * @return the main parameter, or null if none is defined.
+   */
+  JCommander.MainParameter getMainParameter() {
+    return mainParameter;
+  }
+}
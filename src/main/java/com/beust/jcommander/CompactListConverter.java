@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import com.beust.jcommander.converters.IParameterSplitter;
+import com.beust.jcommander.internal.Lists;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The converter of the int[], long[], double[] and String[] fields and of the {@link IntList},
+ * {@link LongList} and {@link DoubleList} fields: it splits each value and appends the
+ * converted elements to a growable buffer, without boxing the numbers.
+ *
+ * An array field is converted into a buffer for the whole parse, which
+ * {@link ParseSession#flushArrays()} trims into the field once at the end.
+ */
+final class CompactListConverter implements IStringConverter<List<?>> {
+
+  private final IParameterSplitter splitter;
+  private final Class<?> elementType;
+  private final IStringConverter<?> elementConverter;
+
+  CompactListConverter(IParameterSplitter splitter, Class<?> elementType,
+      IStringConverter<?> elementConverter) {
+    this.splitter = splitter;
+    this.elementType = elementType;
+    this.elementConverter = elementConverter;
+  }
+
+  /**
+   * @return true if fields of this type are converted by this class.
+   */
+  static boolean supports(Class<?> type) {
+    return elementType(type) != null;
+  }
+
+  /**
+   * @return the type of the elements of a supported field type, null if it's not supported.
+   */
+  static Class<?> elementType(Class<?> type) {
+    if (type == int[].class || type == IntList.class) return int.class;
+    if (type == long[].class || type == LongList.class) return long.class;
+    if (type == double[].class || type == DoubleList.class) return double.class;
+    if (type == String[].class) return String.class;
+    return null;
+  }
+
+  /**
+   * @return a new buffer for the elements, starting with the elements of the given array
+   * if it's not null.
+   */
+  Object newBuffer(Object initial) {
+    if (elementType == int.class) return initial != null ? IntList.of((int[]) initial) : new IntList();
+    if (elementType == long.class) return initial != null ? LongList.of((long[]) initial) : new LongList();
+    if (elementType == double.class) return initial != null ? DoubleList.of((double[]) initial) : new DoubleList();
+    return initial != null ? Lists.newArrayList((String[]) initial) : Lists.<String>newArrayList();
+  }
+
+  /**
+   * @return the elements of an array of a supported type, in a list.
+   */
+  static List<?> toList(Object array) {
+    if (array instanceof int[] a) return IntList.of(a);
+    if (array instanceof long[] a) return LongList.of(a);
+    if (array instanceof double[] a) return DoubleList.of(a);
+    return Arrays.asList((Object[]) array);
+  }
+
+  /**
+   * @return the buffer trimmed into an array.
+   */
+  static Object toArray(Object buffer) {
+    if (buffer instanceof IntList l) return l.toIntArray();
+    if (buffer instanceof LongList l) return l.toLongArray();
+    if (buffer instanceof DoubleList l) return l.toDoubleArray();
+    @SuppressWarnings("unchecked")
+    List<String> strings = (List<String>) buffer;
+    return strings.toArray(new String[0]);
+  }
+
+  /**
+   * Split the value and append each converted element to the buffer.
+   */
+  @SuppressWarnings("unchecked")
+  void append(String value, Object buffer) {
+    if (buffer instanceof IntList l) {
+      splitter.split(value, element -> l.addInt(PrimitiveBinding.toInt(elementConverter, element)));
+    } else if (buffer instanceof LongList l) {
+      splitter.split(value, element -> l.addLong(PrimitiveBinding.toLong(elementConverter, element)));
+    } else if (buffer instanceof DoubleList l) {
+      splitter.split(value, element -> l.addDouble(PrimitiveBinding.toDouble(elementConverter, element)));
+    } else {
+      List<Object> l = (List<Object>) buffer;
+      splitter.split(value, element -> l.add(elementConverter.convert(element)));
+    }
+  }
+
+  /**
+   * Append the elements of a buffer to another buffer of the same type.
+   */
+  @SuppressWarnings("unchecked")
+  static void appendAll(Object from, Object to) {
+    if (from instanceof IntList f) {
+      IntList l = (IntList) to;
+      for (int i = 0; i < f.size(); i++) l.addInt(f.getInt(i));
+    } else if (from instanceof LongList f) {
+      LongList l = (LongList) to;
+      for (int i = 0; i < f.size(); i++) l.addLong(f.getLong(i));
+    } else if (from instanceof DoubleList f) {
+      DoubleList l = (DoubleList) to;
+      for (int i = 0; i < f.size(); i++) l.addDouble(f.getDouble(i));
+    } else {
+      ((List<Object>) to).addAll((List<Object>) from);
+    }
+  }
+
+  /**
+   * @return the converted elements of the value, boxed in a list.
+   */
+  @Override
+  public List<?> convert(String value) {
+    Object buffer = newBuffer(null);
+    append(value, buffer);
+    return (List<?>) buffer;
+  }
+}
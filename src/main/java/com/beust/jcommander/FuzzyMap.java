@@ -1,18 +1,68 @@
 package com.beust.jcommander;
 
-import com.beust.jcommander.internal.Maps;
+import com.beust.jcommander.internal.Lists;
+import com.beust.jcommander.internal.PrefixTrie;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Helper class to perform fuzzy key look ups: looking up case insensitive or
  * abbreviated keys.
+ *
+ * The static {@link #findInMap} scans the map for each look up. For repeated look ups,
+ * create a FuzzyMap instance instead: it compiles the keys of the map once into a
+ * prefix trie, and must be recreated whenever keys are added to the map.
+ *
+ * @param <V> the type of the values of the map
  */
-public class FuzzyMap {
+public class FuzzyMap<V> {
   interface IKey {
     String getName();
   }
 
+  private final PrefixTrie<V> trie;
+
+  public FuzzyMap(Map<? extends IKey, V> map, boolean caseSensitive) {
+    trie = new PrefixTrie<>(caseSensitive);
+    map.forEach((key, value) -> trie.put(key.getName(), value));
+  }
+
+  public boolean isCaseSensitive() {
+    return trie.isCaseSensitive();
+  }
+
+  /**
+   * @return the value whose key is name or, if abbreviations are allowed, the only value
+   * whose key starts with name. Null if there is no such value.
+   * @throws ParameterException if name is an abbreviation of several keys
+   */
+  public V find(IKey name, boolean allowAbbreviations) {
+    String string = name.getName();
+    if (allowAbbreviations) {
+      int count = trie.countPrefixedBy(string);
+      if (count > 1) {
+        throw ambiguous(name, trie.namesPrefixedBy(string));
+      }
+      return count == 1 ? trie.findUniquePrefixedBy(string) : null;
+    } else {
+      return trie.get(string);
+    }
+  }
+
+  /**
+   * @return true if abbreviations are allowed and name is an abbreviation of several keys,
+   * in which case {@link #find} throws.
+   */
+  public boolean isAmbiguous(IKey name, boolean allowAbbreviations) {
+    return allowAbbreviations && trie.countPrefixedBy(name.getName()) > 1;
+  }
+
+  static ParameterException ambiguous(Object name, Collection<String> matches) {
+    return new ParameterException("Ambiguous option: " + name + " matches " + matches);
+  }
+
   public static <V> V findInMap(Map<? extends IKey, V> map, IKey name,
       boolean caseSensitive, boolean allowAbbreviations) {
     if (allowAbbreviations) {
@@ -21,9 +71,9 @@ public class FuzzyMap {
       if (caseSensitive) {
         return map.get(name);
       } else {
-        for (IKey c : map.keySet()) {
-          if (c.getName().equalsIgnoreCase(name.getName())) {
-            return map.get(c);
+        for (Map.Entry<? extends IKey, V> entry : map.entrySet()) {
+          if (entry.getKey().getName().equalsIgnoreCase(name.getName())) {
+            return entry.getValue();
           }
         }
       }
@@ -34,28 +84,28 @@ public class FuzzyMap {
   private static <V> V findAbbreviatedValue(Map<? extends IKey, V> map, IKey name,
       boolean caseSensitive) {
     String string = name.getName();
-    Map<String, V> results = Maps.newHashMap();
-    for (IKey c : map.keySet()) {
-      String n = c.getName();
-      boolean match = (caseSensitive && n.startsWith(string))
-          || ((! caseSensitive) && n.toLowerCase().startsWith(string.toLowerCase()));
-      if (match) {
-        results.put(n, map.get(c));
+    String matchedName = null;
+    V result = null;
+    for (Map.Entry<? extends IKey, V> entry : map.entrySet()) {
+      String n = entry.getKey().getName();
+      if (n.regionMatches(! caseSensitive, 0, string, 0, string.length())) {
+        if (matchedName == null) {
+          matchedName = n;
+          result = entry.getValue();
+        } else if (! matchedName.equals(n)) {
+          // Only allocate on the error path
+          List<String> matches = Lists.newArrayList();
+          for (IKey c : map.keySet()) {
+            if (c.getName().regionMatches(! caseSensitive, 0, string, 0, string.length())) {
+              matches.add(c.getName());
+            }
+          }
+          throw ambiguous(name, matches);
+        }
       }
     }
 
-    V result;
-    if (results.size() > 1) {
-      throw new ParameterException("Ambiguous option: " + name
-          + " matches " + results.keySet());
-    } else if (results.size() == 1) {
-      result = results.values().iterator().next();
-    } else {
-      result = null;
-    }
-
     return result;
   }
 
-
 }
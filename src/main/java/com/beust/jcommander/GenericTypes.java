@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * The generic types created by {@link IParametersBinder}, equal to the ones returned by
+ * reflection.
+ */
+class GenericTypes {
+
+  private GenericTypes() {}
+
+  static final class Parameterized implements ParameterizedType {
+    private final Class<?> rawType;
+    private final Type[] typeArguments;
+
+    Parameterized(Class<?> rawType, Type... typeArguments) {
+      this.rawType = rawType;
+      this.typeArguments = typeArguments.clone();
+    }
+
+    @Override
+    public Type[] getActualTypeArguments() {
+      return typeArguments.clone();
+    }
+
+    @Override
+    public Type getRawType() {
+      return rawType;
+    }
+
+    @Override
+    public Type getOwnerType() {
+      return rawType.getDeclaringClass();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof ParameterizedType p
+          && rawType.equals(p.getRawType())
+          && Objects.equals(getOwnerType(), p.getOwnerType())
+          && Arrays.equals(typeArguments, p.getActualTypeArguments());
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(typeArguments) ^ Objects.hashCode(getOwnerType()) ^ rawType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.stream(typeArguments).map(Type::getTypeName)
+          .collect(Collectors.joining(", ", rawType.getName() + "<", ">"));
+    }
+  }
+
+  static final class Wildcard implements WildcardType {
+    private static final Type[] OBJECT = { Object.class };
+
+    private final Type[] upperBounds;
+    private final Type[] lowerBounds;
+
+    Wildcard(Type[] upperBounds, Type[] lowerBounds) {
+      this.upperBounds = upperBounds.length == 0 ? OBJECT : upperBounds.clone();
+      this.lowerBounds = lowerBounds.clone();
+    }
+
+    @Override
+    public Type[] getUpperBounds() {
+      return upperBounds.clone();
+    }
+
+    @Override
+    public Type[] getLowerBounds() {
+      return lowerBounds.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof WildcardType w
+          && Arrays.equals(upperBounds, w.getUpperBounds())
+          && Arrays.equals(lowerBounds, w.getLowerBounds());
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(upperBounds) ^ Arrays.hashCode(lowerBounds);
+    }
+
+    @Override
+    public String toString() {
+      if (lowerBounds.length > 0) {
+        return "? super " + lowerBounds[0].getTypeName();
+      }
+      return upperBounds[0] == Object.class ? "?" : "? extends " + upperBounds[0].getTypeName();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+/**
+ * A converter to double. When the converter of a double field implements this interface,
+ * the value is converted and stored with {@link #convertDouble(String)}, without being boxed.
+ *
+ * @see IStringConverter
+ */
+@FunctionalInterface
+public interface IDoubleConverter extends IStringConverter<Double> {
+  /**
+   * @return a double created from the parameter value.
+   */
+  double convertDouble(String value);
+
+  @Override
+  default Double convert(String value) {
+    return convertDouble(value);
+  }
+}
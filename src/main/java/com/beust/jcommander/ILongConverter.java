@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+/**
+ * A converter to long. When the converter of a long field implements this interface,
+ * the value is converted and stored with {@link #convertLong(String)}, without being boxed.
+ *
+ * @see IStringConverter
+ */
+@FunctionalInterface
+public interface ILongConverter extends IStringConverter<Long> {
+  /**
+   * @return a long created from the parameter value.
+   */
+  long convertLong(String value);
+
+  @Override
+  default Long convert(String value) {
+    return convertLong(value);
+  }
+}
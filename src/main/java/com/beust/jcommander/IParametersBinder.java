@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Describes the parameters of a class without reflection. Binders are generated at compile
+ * time by {@link com.beust.jcommander.processor.BinderProcessor} and registered as services:
+ * when a class has a binder, {@link Parameterized#parseArg} uses it instead of scanning the
+ * class and its annotations.
+ */
+public interface IParametersBinder {
+
+  /**
+   * @return the class whose parameters this binder describes
+   */
+  Class<?> getType();
+
+  /**
+   * @return the parameters of the class, including the inherited ones, in the same order
+   * as {@link Parameterized#parseArg} finds them.
+   */
+  List<Parameterized> describe();
+
+  /**
+   * @return the generic type of a field or parameter, such as {@code List<String>}
+   */
+  static Type parameterized(Class<?> rawType, Type... typeArguments) {
+    return new GenericTypes.Parameterized(rawType, typeArguments);
+  }
+
+  /**
+   * @return a wildcard type argument, such as {@code ? extends Number}
+   */
+  static Type wildcard(Type[] upperBounds, Type[] lowerBounds) {
+    return new GenericTypes.Wildcard(upperBounds, lowerBounds);
+  }
+}
@@ -3,6 +3,8 @@ package com.beust.jcommander;
 /**
  * Must be implemented by argument classes that contain at least one
  * \@Parameter with "variableArity = true".
+ *
+ * @see IVariableArity2 for a variant that doesn't copy the remaining arguments.
  */
 public interface IVariableArity {
 
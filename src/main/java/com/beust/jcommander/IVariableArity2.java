@@ -0,0 +1,30 @@
+package com.beust.jcommander;
+
+import java.util.List;
+
+/**
+ * Index based variant of {@link IVariableArity}: instead of a copy of all the remaining
+ * arguments, it receives a read-only view of the command line and the index of the first
+ * argument following the option. Arg classes with many variable arity options should
+ * prefer it, since nothing is copied when an option is processed.
+ */
+public interface IVariableArity2 {
+
+  /**
+   * @param optionName the name of the option to process.
+   * @param args a read-only view of the command line.
+   * @param start the index in args of the first argument following the option.
+   *
+   * @return how many arguments, starting at start, were processed.
+   */
+  int processVariableArity(String optionName, List<String> args, int start);
+
+  /**
+   * @return an adapter passing a copy of the arguments following the option to the given
+   * array based implementation.
+   */
+  static IVariableArity2 of(IVariableArity variableArity) {
+    return (optionName, args, start) -> variableArity.processVariableArity(optionName,
+        args.subList(start, args.size()).toArray(new String[0]));
+  }
+}
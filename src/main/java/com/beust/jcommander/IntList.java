@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A growable list of ints stored in an int array, without an object per element.
+ * Declare a field of this type to receive the values of a numeric option that can have many
+ * values, e.g. with a variable arity or a splitter, without boxing them.
+ *
+ * The {@link java.util.List} methods box the values, use {@link #getInt(int)} and
+ * {@link #addInt(int)} to avoid it.
+ *
+ * {@link IntList}, {@link LongList} and {@link DoubleList} are deliberate copies of each other
+ * that only differ by the type of their elements: sharing their code would take a generic
+ * base class, which boxes the values.
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess {
+
+  private int[] values;
+  private int size;
+
+  public IntList() {
+    this(10);
+  }
+
+  public IntList(int capacity) {
+    values = new int[capacity];
+  }
+
+  /**
+   * @return a list holding a copy of the given values.
+   */
+  public static IntList of(int... values) {
+    IntList result = new IntList(values.length);
+    System.arraycopy(values, 0, result.values, 0, values.length);
+    result.size = values.length;
+    return result;
+  }
+
+  public int getInt(int index) {
+    Objects.checkIndex(index, size);
+    return values[index];
+  }
+
+  public void addInt(int value) {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, Math.max(10, size + (size >> 1)));
+    }
+    values[size++] = value;
+    modCount++;
+  }
+
+  /**
+   * @return the values of this list, in an array of its size.
+   */
+  public int[] toIntArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  /**
+   * Release the unused capacity.
+   */
+  public void trimToSize() {
+    if (size < values.length) {
+      values = Arrays.copyOf(values, size);
+    }
+  }
+
+  @Override
+  public Integer get(int index) {
+    return getInt(index);
+  }
+
+  @Override
+  public Integer set(int index, Integer element) {
+    Objects.checkIndex(index, size);
+    int previous = values[index];
+    values[index] = element;
+    return previous;
+  }
+
+  @Override
+  public void add(int index, Integer element) {
+    Objects.checkIndex(index, size + 1);
+    addInt(element);
+    System.arraycopy(values, index, values, index + 1, size - 1 - index);
+    values[index] = element;
+  }
+
+  @Override
+  public Integer remove(int index) {
+    Objects.checkIndex(index, size);
+    int previous = values[index];
+    System.arraycopy(values, index + 1, values, index, size - 1 - index);
+    size--;
+    modCount++;
+    return previous;
+  }
+
+  @Override
+  public void clear() {
+    size = 0;
+    modCount++;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
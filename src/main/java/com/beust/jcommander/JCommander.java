@@ -31,6 +31,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -51,9 +52,19 @@ public class JCommander {
     protected IParameterizedParser parameterizedParser = new DefaultParameterizedParser();
 
     /**
-     * A map to look up parameter description per option name.
+     * The compiled descriptions of the parameters, null until {@link #createDescriptions()}.
      */
-    private Map<IKey, ParameterDescription> descriptions;
+    private CommandSpec spec;
+
+    /**
+     * The state of {@link #parse(String...)}, which accumulates over successive parses.
+     */
+    private ParseSession session;
+
+    /**
+     * Option and command names compiled from {@link #spec} and {@link #aliasMap}.
+     */
+    private OptionIndex optionIndex;
 
     /**
      * The objects that contain fields annotated with @Parameter.
@@ -62,53 +73,39 @@ public class JCommander {
 
     /**
      * Description of a main parameter, which can be either a list of string or a single field. Both
-     * are subject to converters before being returned to the user.
+     * are subject to converters before being returned to the user. Its values are kept by the
+     * {@link ParseSession}.
      */
     static class MainParameter implements IMainParameter {
         /**
          * This field/method will contain whatever command line parameter is not an option.
          */
-        Parameterized parameterized;
+        final Parameterized parameterized;
 
         /**
          * The object on which we found the main parameter field.
          */
-        Object object;
+        final Object object;
 
         /**
          * The annotation found on the main parameter field.
          */
-        private Parameter annotation;
+        private final Parameter annotation;
 
-        private ParameterDescription description;
-        /**
-         * Non null if the main parameter is a List<String>.
-         */
-        private List<Object> multipleValue = null;
+        private final ParameterDescription description;
 
-        /**
-         * The value of the single field, if it's not a List<String>.
-         */
-        private Object singleValue = null;
-
-        private boolean firstTimeMainParameter = true;
+        MainParameter(Parameterized parameterized, Object object, Parameter annotation,
+                ParameterDescription description) {
+            this.parameterized = parameterized;
+            this.object = object;
+            this.annotation = annotation;
+            this.description = description;
+        }
 
         @Override
         public ParameterDescription getDescription() {
             return description;
         }
-
-        public void addValue(Object convertedValue) {
-            if (multipleValue != null) {
-                multipleValue.add(convertedValue);
-            } else if (singleValue != null) {
-                throw new ParameterException("Only one main parameter allowed but found several: "
-                    + "\"" + singleValue + "\" and \"" + convertedValue + "\"");
-            } else {
-                singleValue = convertedValue;
-                parameterized.set(object, convertedValue);
-            }
-        }
     }
 
     /**
@@ -116,28 +113,6 @@ public class JCommander {
      */
     private IUsageFormatter usageFormatter = new DefaultUsageFormatter(this);
 
-    private MainParameter mainParameter = null;
-
-    /**
-     * A set of all the parameterizeds that are required. During the reflection phase,
-     * this field receives all the fields that are annotated with required=true
-     * and during the parsing phase, all the fields that are assigned a value
-     * are removed from it. At the end of the parsing phase, if it's not empty,
-     * then some required fields did not receive a value and an exception is
-     * thrown.
-     */
-    private Map<Parameterized, ParameterDescription> requiredFields = Maps.newHashMap();
-
-    /**
-     * A set of all the parameters validators to be applied.
-     */
-    private Set<IParametersValidator> parametersValidators = Sets.newHashSet();
-
-    /**
-     * A map of all the parameterized fields/methods.
-     */
-    private Map<Parameterized, ParameterDescription> fields = Maps.newHashMap();
-
     /**
      * List of commands and their instance.
      */
@@ -149,21 +124,23 @@ public class JCommander {
     private Map<IKey, ProgramName> aliasMap = Maps.newLinkedHashMap();
 
     /**
-     * The name of the command after the parsing has run.
+     * Compiled look up structure over {@link #aliasMap}, rebuilt when a command is added.
      */
-    private String parsedCommand;
+    private FuzzyMap<ProgramName> fuzzyAliasMap;
 
     /**
-     * The name of command or alias as it was passed to the
-     * command line
+     * The classes that {@link #parse(Class, String...)} creates instances of, along with the
+     * JCommander that compiled their descriptions and the instance it compiled them from.
      */
-    private String parsedAlias;
-
-    private ProgramName programName;
+    private record BoundType(JCommander jc, Constructor<?> constructor, Object prototype) {
+        Object newInstance() {
+            return JCommander.newInstance(constructor);
+        }
+    }
 
-    private boolean helpWasSpecified;
+    private final Map<Class<?>, BoundType> boundTypes = new ConcurrentHashMap<>();
 
-    private List<String> unknownArgs = Lists.newArrayList();
+    private ProgramName programName;
 
     private Console console;
 
@@ -205,14 +182,25 @@ public class JCommander {
         private boolean expandAtSign = true;
         private int verbose = 0;
         private boolean caseSensitiveOptions = true;
+        private boolean caseSensitiveEnumValues = true;
         private boolean allowAbbreviatedOptions = false;
         /**
          * The factories used to look up string converters.
          */
         private final List<IStringConverterInstanceFactory> converterInstanceFactories = new CopyOnWriteArrayList<>();
         private Charset atFileCharset = Charset.defaultCharset();
+        private boolean streamAtFiles = false;
+        private int atFileMaxDepth = 16;
+        private AtFileCache atFileCache;
+        private boolean cacheConverters = true;
+        /**
+         * The converter of each parameter, for each type it converts to, created on first use.
+         */
+        private final Map<ConverterKey, IStringConverter<?>> converters = new ConcurrentHashMap<>();
     }
 
+    private record ConverterKey(Parameterized parameterized, Class<?> type, String optionName) {}
+
     private JCommander(Options options) {
         Objects.requireNonNull(options, "options");
         this.options = options;
@@ -349,6 +337,63 @@ public class JCommander {
         }
     }
 
+    /**
+     * Parse and validate the command line parameters into a new instance of the given class,
+     * which needs a constructor without parameters.
+     *
+     * Unlike {@link #parse(String...)}, this method can be called concurrently: the
+     * descriptions of each class are compiled once, from an instance created for that
+     * purpose, and then only read. The options of this JCommander apply, but not its
+     * objects or its commands.
+     *
+     * @return the new instance, assigned the values of the parameters
+     */
+    public <T> T parse(Class<T> argsType, String... args) {
+        BoundType boundType = boundTypes.computeIfAbsent(argsType, this::bind);
+        T result = argsType.cast(boundType.newInstance());
+        ParseSession session = new ParseSession(boundType.jc().getSpec(), boundType.prototype(), result);
+        try {
+            boundType.jc().parse(session, true /* validate */, new ArgumentBuffer(args), 0);
+        } catch(ParameterException ex) {
+            ex.setJCommander(boundType.jc());
+            throw ex;
+        }
+        return result;
+    }
+
+    /**
+     * Compile the descriptions of a class for {@link #parse(Class, String...)}.
+     */
+    private BoundType bind(Class<?> argsType) {
+        Constructor<?> constructor;
+        try {
+            constructor = argsType.getDeclaredConstructor();
+            constructor.trySetAccessible();
+        } catch (NoSuchMethodException e) {
+            throw new ParameterException("Cannot instantiate " + argsType.getName()
+                + ": no constructor without parameters", e);
+        }
+        Object prototype = newInstance(constructor);
+        JCommander jc = new JCommander(options);
+        jc.programName = programName;
+        jc.addObject(prototype);
+        // Compile everything now since the parses only read it
+        jc.createDescriptions();
+        jc.getFuzzyAliasMap();
+        return new BoundType(jc, constructor, prototype);
+    }
+
+    private static Object newInstance(Constructor<?> constructor) {
+        try {
+            return constructor.newInstance();
+        } catch (InvocationTargetException e) {
+            throw new ParameterException("Cannot instantiate " + constructor.getDeclaringClass().getName(),
+                e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new ParameterException("Cannot instantiate " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
     /**
      * Parse the command line parameters without validating them.
      */
@@ -357,20 +402,50 @@ public class JCommander {
     }
 
     private void parse(boolean validate, String... args) {
-        p("Parsing \""
-            + String.join(" ", args) + "\"\n  with:" + Strings.join(" ", objects.toArray()));
+        parse(getSession(), validate, new ArgumentBuffer(args), 0);
+    }
+
+    /**
+     * @return the compiled descriptions of the parameters, compiling them if needed.
+     */
+    CommandSpec getSpec() {
+        if (spec == null) createDescriptions();
+        return spec;
+    }
 
-        if (descriptions == null) createDescriptions();
-        initializeDefaultValues();
-        parseValues(expandArgs(args), validate);
-        if (validate) validateOptions();
+    /**
+     * @return the session of {@link #parse(String...)}, created on first use.
+     */
+    ParseSession getSession() {
+        if (session == null) session = new ParseSession(getSpec(), true);
+        return session;
+    }
+
+    /**
+     * Parse the arguments of the buffer starting at the given offset, the preceding ones
+     * belonging to the parent commands.
+     */
+    private void parse(ParseSession session, boolean validate, ArgumentBuffer args, int start) {
+        if (isDebug()) {
+            p("Parsing \""
+                + args.toString(start) + "\"\n  with:" + Strings.join(" ", objects.toArray()));
+        }
+
+        getSpec();
+        initializeDefaultValues(session);
+        try {
+            parseValues(session, new TokenTable(args, start, this::classify), validate);
+        } finally {
+            session.flushArrays();
+        }
+        if (validate) validateOptions(session);
     }
 
-    private void initializeDefaultValues() {
+    private void initializeDefaultValues(ParseSession session) {
         if (options.defaultProvider != null) {
-            descriptions.values().forEach(this::initializeDefaultValue);
+            getSpec().getDescriptions().values().forEach(pd -> initializeDefaultValue(session, pd));
 
-            commands.forEach((key, value) -> value.initializeDefaultValues());
+            commands.forEach((key, value) -> value.initializeDefaultValues(session.forCommand(value)));
         }
     }
 
@@ -378,12 +453,13 @@ public class JCommander {
      * Make sure that all the required parameters have received a value and that
      * all provided parameters have a value compliant to all given rules.
      */
-    private void validateOptions() {
+    private void validateOptions(ParseSession session) {
         // No validation if we found a help parameter
-        if (helpWasSpecified) {
+        if (session.isHelpWasSpecified()) {
             return;
         }
 
+        Map<Parameterized, ParameterDescription> requiredFields = session.getRequiredFields();
         if (!requiredFields.isEmpty()) {
             List<String> missingFields = new ArrayList<>();
             requiredFields.values().forEach(pd ->
@@ -395,11 +471,12 @@ public class JCommander {
                     + message);
         }
 
+        MainParameter mainParameter = spec.getMainParameter();
         if (mainParameter != null && mainParameter.description != null) {
             ParameterDescription mainParameterDescription = mainParameter.description;
             // Make sure we have a main parameter if it was required
             if (mainParameterDescription.getParameter().required() &&
-                    !mainParameterDescription.isAssigned()) {
+                    !session.isAssigned(mainParameterDescription)) {
                 throw new ParameterException("Main parameters are required (\""
                         + mainParameterDescription.getDescription() + "\")");
             }
@@ -407,7 +484,7 @@ public class JCommander {
             // If the main parameter has an arity, make sure the correct number of parameters was passed
             int arity = mainParameterDescription.getParameter().arity();
             if (arity != Parameter.DEFAULT_ARITY) {
-                Object value = mainParameterDescription.getParameterized().get(mainParameter.object);
+                Object value = mainParameterDescription.getParameterized().get(session.target(mainParameterDescription));
                 if (List.class.isAssignableFrom(value.getClass())) {
                     int size = ((List<?>) value).size();
                     if (size != arity) {
@@ -420,11 +497,11 @@ public class JCommander {
         }
 
         Map<String, Object> nameValuePairs = Maps.newHashMap();
-        fields.values().forEach(pd ->
-            nameValuePairs.put(pd.getLongestName(), pd.getValue())
+        spec.getFields().values().forEach(pd ->
+            nameValuePairs.put(pd.getLongestName(), session.getValue(pd))
         );
 
-        parametersValidators.forEach(parametersValidator ->
+        spec.getParametersValidators().forEach(parametersValidator ->
             parametersValidator.validate(nameValuePairs)
         );
     }
@@ -434,83 +511,59 @@ public class JCommander {
     }
 
     /**
-     * Expand the command line parameters to take @ parameters into account.
-     * When @ is encountered, the content of the file that follows is inserted
-     * in the command line.
-     *
-     * @param originalArgv the original command line parameters
-     * @return the new and enriched command line parameters
-     */
-    private String[] expandArgs(String[] originalArgv) {
-        List<String> vResult1 = Lists.newArrayList();
-
-        //
-        // Expand dynamic args
-        //
-        for (String arg : originalArgv) {
-            List<String> expanded = expandDynamicArg(arg);
-            vResult1.addAll(expanded);
-        }
-
-        // Expand separators
-        //
-        List<String> vResult2 = Lists.newArrayList();
-        vResult1.forEach(arg -> {
-            if (isOption(arg)) {
-                String sep = getSeparatorFor(arg);
-                if (!" ".equals(sep)) {
-                    String[] sp = arg.split("[" + sep + "]", 2);
-                    for (String ssp : sp) {
-                        vResult2.add(ssp);
-                    }
-                } else {
-                    vResult2.add(arg);
-                }
-            } else {
-                vResult2.add(arg);
+     * Split an argument on dynamic parameter names and option separators (e.g. -Dfoo=bar
+     * or -author=foo) and add the resulting tokens to the table, classified.
+     */
+    private void classify(String arg, TokenTable tokens) {
+        String dynamicName = getOptionIndex().findDynamicOptionPrefix(arg);
+        if (dynamicName != null) {
+            classifyToken(dynamicName, tokens);
+            arg = arg.substring(dynamicName.length());
+        }
+
+        if (isOption(arg)) {
+            String sep = getSeparatorFor(arg);
+            int index = " ".equals(sep) ? -1 : indexOfAny(arg, sep);
+            if (index != -1) {
+                classifyToken(arg.substring(0, index), tokens);
+                classifyToken(arg.substring(index + 1), tokens);
+                return;
             }
-        });
-
-        return vResult2.toArray(new String[vResult2.size()]);
+        }
+        classifyToken(arg, tokens);
     }
 
-    private List<String> expandDynamicArg(String arg) {
-        for (ParameterDescription pd : descriptions.values()) {
-            if (pd.isDynamicParameter()) {
-                for (String name : pd.getParameter().names()) {
-                    if (arg.startsWith(name) && !arg.equals(name) && arg.contains(pd.getParameter().getAssignment())) {
-                        return List.of(name, arg.substring(name.length()));
-                    }
-                }
-            }
+    private void classifyToken(String arg, TokenTable tokens) {
+        String a = trim(arg);
+        boolean named = isNamedOption(arg);
+        if (arg.startsWith("@") && options.expandAtSign) {
+            tokens.add(arg, a, TokenTable.Kind.AT_FILE, named, false, null, null);
+            return;
         }
 
-        return List.of(arg);
+        if (isAmbiguousCommand(arg)) {
+            tokens.add(arg, a, TokenTable.Kind.VALUE, named, true, null, null);
+            return;
+        }
+        JCommander jc = findCommandByAlias(arg);
+        if (jc != null) {
+            tokens.add(arg, a, TokenTable.Kind.COMMAND, named, false, null, jc);
+        } else if ("--".equals(arg)) {
+            tokens.add(arg, a, TokenTable.Kind.DASH_DASH, named, false, null, null);
+        } else if (!"--".equals(a) && (options.acceptUnknownOptions || (a.equals(arg) ? named : isNamedOption(a)))) {
+            boolean ambiguous = getOptionIndex().isAmbiguous(a, options.allowAbbreviatedOptions);
+            ParameterDescription pd = ambiguous ? null : findParameterDescription(a);
+            tokens.add(arg, a, TokenTable.Kind.OPTION, named, ambiguous, pd, null);
+        } else {
+            tokens.add(arg, a, TokenTable.Kind.VALUE, named, false, null, null);
+        }
     }
 
-    private boolean matchArg(String arg, IKey key) {
-        String kn = options.caseSensitiveOptions
-                ? key.getName()
-                : key.getName().toLowerCase();
-        if (options.allowAbbreviatedOptions) {
-            if (kn.startsWith(arg)) return true;
-        } else {
-            ParameterDescription pd = descriptions.get(key);
-            if (pd != null) {
-                // It's an option. If the option has a separator (e.g. -author==foo) then
-                // we only do a beginsWith match
-                String separator = getSeparatorFor(arg);
-                if (! " ".equals(separator)) {
-                    if (arg.startsWith(kn)) return true;
-                } else {
-                    if (kn.equals(arg)) return true;
-                }
-            } else {
-                // It's a command do a strict equality check
-                if (kn.equals(arg)) return true;
-            }
+    private static int indexOfAny(String s, String chars) {
+        for (int i = 0; i < s.length(); i++) {
+            if (chars.indexOf(s.charAt(i)) != -1) return i;
         }
-        return false;
+        return -1;
     }
 
     private boolean isOption(String passedArg) {
@@ -518,48 +571,70 @@ public class JCommander {
     }
 
     private boolean isNamedOption(String passedArg) {
+        return getOptionIndex().isNamedOption(passedArg, options.allowAbbreviatedOptions);
+    }
 
-        String arg = options.caseSensitiveOptions ? passedArg : passedArg.toLowerCase();
-
-        for (IKey key : descriptions.keySet()) {
-            if (matchArg(arg, key)) return true;
-        }
-        for (IKey key : commands.keySet()) {
-            if (matchArg(arg, key)) return true;
-        }
-        for (IKey key : aliasMap.keySet()) {
-            if (matchArg(arg, key)) return true;
-        }
-
-        return false;
+    private String getSeparatorFor(String arg) {
+        return getOptionIndex().getSeparatorFor(arg);
     }
 
-    private ParameterDescription getPrefixDescriptionFor(String arg) {
-        for (Map.Entry<IKey, ParameterDescription> es : descriptions.entrySet()) {
-            if (Strings.startsWith(arg, es.getKey().getName(), options.caseSensitiveOptions)) return es.getValue();
+    /**
+     * @return the index of the option and command names, rebuilt if commands were added or
+     * the case sensitivity changed since it was last compiled.
+     */
+    private OptionIndex getOptionIndex() {
+        if (optionIndex == null || optionIndex.isCaseSensitive() != options.caseSensitiveOptions) {
+            optionIndex = new OptionIndex(getSpec().getDescriptions(), aliasMap.keySet(), options.caseSensitiveOptions);
         }
-
-        return null;
+        return optionIndex;
     }
 
     /**
-     * If arg is an option, we can look it up directly, but if it's a value,
-     * we need to find the description for the option that precedes it.
+     * Replace the {@code @file} token at index i with the arguments of the file, read lazily
+     * from a memory mapped view of the file if {@code @files} are streamed. An {@code @file}
+     * can include other ones, as long as they don't include each other and are not nested
+     * more than {@link #setAtFileMaxDepth(int) the maximum depth}.
      */
-    private ParameterDescription getDescriptionFor(String arg) {
-        return getPrefixDescriptionFor(arg);
-    }
+    private void expandAtFile(TokenTable tokens, int i, String fileName) {
+        ArgumentBuffer.Include parent = tokens.includeOf(i);
+        Path path;
+        try {
+            path = Path.of(fileName).toRealPath();
+        } catch (IOException e) {
+            throw new ParameterException("Could not read file " + fileName + ": " + e);
+        }
 
-    private String getSeparatorFor(String arg) {
-        ParameterDescription pd = getDescriptionFor(arg);
+        for (ArgumentBuffer.Include include = parent; include != null; include = include.parent()) {
+            if (include.path().equals(path)) {
+                StringBuilder cycle = new StringBuilder(path.toString());
+                for (ArgumentBuffer.Include in = parent; in != include; in = in.parent()) {
+                    cycle.insert(0, in.path() + " -> ");
+                }
+                throw new ParameterException("Cyclic @file include: " + path + " -> " + cycle);
+            }
+        }
+        int depth = parent != null ? parent.depth() + 1 : 1;
+        if (depth > options.atFileMaxDepth) {
+            throw new ParameterException("Could not read file " + fileName
+                + ": @files are nested more than " + options.atFileMaxDepth + " levels deep");
+        }
 
-        // Could be null if only main parameters were passed
-        if (pd != null) {
-            Parameters p = pd.getObject().getClass().getAnnotation(Parameters.class);
-            if (p != null) return p.separators();
+        Iterator<String> args;
+        if (options.streamAtFiles) {
+            try {
+                args = new MappedAtFileReader(path, options.atFileCharset);
+            } catch (IOException e) {
+                throw new ParameterException("Could not read file " + fileName + ": " + e);
+            }
+        } else {
+            args = tokens.buffer().readOnce(path, this::readCachedFile).iterator();
         }
+        tokens.expandAtFile(i, new ArgumentBuffer.Include(path, parent, depth), args);
+    }
 
-        return " ";
+    private List<String> readCachedFile(Path path) {
+        AtFileCache cache = options.atFileCache;
+        return cache != null ? cache.get(path, options.atFileCharset, this::readFile) : readFile(path);
     }
 
     /**
@@ -569,10 +644,10 @@ public class JCommander {
      * @param fileName the command line filename
      * @return the file content as a string.
      */
-    private List<String> readFile(String fileName) {
+    private List<String> readFile(Path fileName) {
         List<String> result = Lists.newArrayList();
 
-        try (BufferedReader bufRead = Files.newBufferedReader(Path.of(fileName), options.atFileCharset)) {
+        try (BufferedReader bufRead = Files.newBufferedReader(fileName, options.atFileCharset)) {
             String line;
             // Read through file one line at time. Print line # and line
             while ((line = bufRead.readLine()) != null) {
@@ -603,12 +678,14 @@ public class JCommander {
      * Create the ParameterDescriptions for all the \@Parameter found.
      */
     public void createDescriptions() {
-        descriptions = Maps.newHashMap();
-
-        objects.forEach(this::addDescription);
+        CommandSpec spec = new CommandSpec();
+        objects.forEach(object -> addDescription(spec, object));
+        this.spec = spec.compile();
+        if (session != null) session.require(spec);
+        optionIndex = new OptionIndex(spec.getDescriptions(), aliasMap.keySet(), options.caseSensitiveOptions);
     }
 
-    private void addDescription(Object object) {
+    private void addDescription(CommandSpec spec, Object object) {
         Class<?> cls = object.getClass();
 
         Parameters parameters = cls.getAnnotation(Parameters.class);
@@ -617,7 +694,7 @@ public class JCommander {
                 for (Class<? extends IParametersValidator> parametersValidatorClass : parametersValidatorClasses) {
                 try {
                     IParametersValidator parametersValidator = parametersValidatorClass.getDeclaredConstructor().newInstance();
-                    parametersValidators.add(parametersValidator);
+                    spec.addParametersValidator(parametersValidator);
                 } catch (ReflectiveOperationException e) {
                     throw new ParameterException("Cannot instantiate rule: " + parametersValidatorClass, e);
                 }
@@ -635,28 +712,21 @@ public class JCommander {
                 Parameter p = annotation;
                 if (p.names().length == 0) {
                     p("Found main parameter:" + parameterized);
-                    if (mainParameter != null) {
+                    if (spec.getMainParameter() != null) {
                         throw new ParameterException("Only one @Parameter with no names attribute is"
-                                + " allowed, found:" + mainParameter + " and " + parameterized);
+                                + " allowed, found:" + spec.getMainParameter() + " and " + parameterized);
                     }
-                    mainParameter = new MainParameter();
-                    mainParameter.parameterized = parameterized;
-                    mainParameter.object = object;
-                    mainParameter.annotation = p;
-                    mainParameter.description =
-                            new ParameterDescription(object, p, parameterized, options.bundle, this);
+                    spec.setMainParameter(new MainParameter(parameterized, object, p,
+                            new ParameterDescription(object, p, parameterized, options.bundle, this)));
                 } else {
                     ParameterDescription pd =
                             new ParameterDescription(object, p, parameterized, options.bundle, this);
                     for (String name : p.names()) {
-                        if (descriptions.containsKey(new StringKey(name))) {
+                        if (spec.hasOption(name)) {
                             throw new ParameterException("Found the option " + name + " multiple times");
                         }
                         p("Adding description for " + name);
-                        fields.put(parameterized, pd);
-                        descriptions.put(new StringKey(name), pd);
-
-                        if (p.required()) requiredFields.put(parameterized, pd);
+                        spec.addOption(name, parameterized, pd, p.required());
                     }
                 }
             } else if (parameterized.getDelegateAnnotation() != null) {
@@ -668,36 +738,34 @@ public class JCommander {
                     throw new ParameterException("Delegate field '" + parameterized.getName()
                             + "' cannot be null.");
                 }
-                addDescription(delegateObject);
+                spec.addDelegate(object, parameterized, delegateObject);
+                addDescription(spec, delegateObject);
             } else if (wp != null && wp.getDynamicParameter() != null) {
                 //
                 // @DynamicParameter
                 //
                 DynamicParameter dp = wp.getDynamicParameter();
                 for (String name : dp.names()) {
-                    if (descriptions.containsKey(new StringKey(name))) {
+                    if (spec.hasOption(name)) {
                         throw new ParameterException("Found the option " + name + " multiple times");
                     }
                     p("Adding description for " + name);
                     ParameterDescription pd =
                             new ParameterDescription(object, dp, parameterized, options.bundle, this);
-                    fields.put(parameterized, pd);
-                    descriptions.put(new StringKey(name), pd);
-
-                    if (dp.required()) requiredFields.put(parameterized, pd);
+                    spec.addOption(name, parameterized, pd, dp.required());
                 }
             }
         }
     }
 
-    private void initializeDefaultValue(ParameterDescription pd) {
+    private void initializeDefaultValue(ParseSession session, ParameterDescription pd) {
         for (String optionName : pd.getParameter().names()) {
             String def = options.defaultProvider.getDefaultValueFor(optionName);
             if (def != null) {
                 p("Initializing " + optionName + " with default value:" + def);
-                pd.addValue(def, true /* default */);
+                pd.addValue(session, null, def, true /* default */, true, -1);
                 // remove the parameter from the list of fields to be required
-                requiredFields.remove(pd.getParameterized());
+                session.fulfill(pd);
                 return;
             }
         }
@@ -706,60 +774,49 @@ public class JCommander {
     /**
      * Main method that parses the values and initializes the fields accordingly.
      */
-    private void parseValues(String[] args, boolean validate) {
+    private void parseValues(ParseSession session, TokenTable tokens, boolean validate) {
         // This boolean becomes true if we encounter a command, which indicates we need
         // to stop parsing (the parsing of the command will be done in a sub JCommander
         // object)
         boolean commandParsed = false;
         int i = 0;
         boolean isDashDash = false; // once we encounter --, everything goes into the main parameter
-        while (i < args.length && !commandParsed) {
-            String arg = args[i];
+        while (tokens.has(i) && !commandParsed) {
+            String arg = tokens.raw(i);
+            TokenTable.Kind kind = tokens.kind(i);
 
             // 
             // Expand @
             // 
-            if (arg.startsWith("@") && options.expandAtSign) {
-                String fileName = arg.substring(1);
-                List<String> fileArgs = readFile(fileName);
-                
-                // Create a new array to hold the expanded arguments
-                String[] newArgs = new String[args.length + fileArgs.size() - 1];
-
-                // Copy the existing arguments before the '@' argument
-                System.arraycopy(args, 0, newArgs, 0, i);
-
-                // Copy the arguments from the file
-                System.arraycopy(fileArgs.toArray(), 0, newArgs, i, fileArgs.size());
-
-                // Copy the remaining arguments after the '@' argument
-                System.arraycopy(args, i + 1, newArgs, i + fileArgs.size(), args.length - i - 1);
-
-                args = newArgs;
+            if (kind == TokenTable.Kind.AT_FILE) {
+                expandAtFile(tokens, i, arg.substring(1));
                 continue;
             }
+            if (options.streamAtFiles) {
+                tokens.release(i);
+            }
 
-            String a = trim(arg);
-            args[i] = a;
+            String a = tokens.text(i);
             p("Parsing arg: " + a);
 
-            JCommander jc = findCommandByAlias(arg);
+            // Ambiguous abbreviations are resolved again so that they throw
+            JCommander jc = tokens.isAmbiguous(i) ? findCommandByAlias(arg) : tokens.command(i);
             int increment = 1;
-            if (!isDashDash && !"--".equals(a) && isOption(a) && jc == null) {
+            if (!isDashDash && kind == TokenTable.Kind.OPTION) {
                 //
                 // Option
                 //
-                ParameterDescription pd = findParameterDescription(a);
+                ParameterDescription pd = tokens.isAmbiguous(i) ? findParameterDescription(a) : tokens.description(i);
 
                 if (pd != null) {
                     if (pd.getParameter().password()) {
-                        increment = processPassword(args, i, pd, validate);
+                        increment = processPassword(session, tokens, i, pd, validate);
                     } else {
                         if (pd.getParameter().variableArity()) {
                             //
                             // Variable arity?
                             //
-                            increment = processVariableArity(args, i, pd, validate);
+                            increment = processVariableArity(session, tokens, i, pd, validate);
                         } else {
                             //
                             // Regular option
@@ -769,22 +826,23 @@ public class JCommander {
                             // Boolean, set to true as soon as we see it, unless it specified
                             // an arity of 1, in which case we need to read the next value
                             if (pd.getParameter().arity() == -1 && isBooleanType(fieldType)) {
-                                handleBooleanOption(pd, fieldType);
+                                handleBooleanOption(session, pd, fieldType);
                             } else {
-                                increment = processFixedArity(args, i, pd, validate, fieldType);
+                                increment = processFixedArity(session, tokens, i, pd, validate, fieldType);
                             }
                             // If it's a help option, remember for later
                             if (pd.isHelp()) {
-                                helpWasSpecified = true;
+                                session.setHelpWasSpecified();
                             }
                         }
                     }
                 } else {
                     if (options.acceptUnknownOptions) {
+                        List<String> unknownArgs = session.getUnknownArgs();
                         unknownArgs.add(arg);
                         i++;
-                        while (i < args.length && !isOption(args[i])) {
-                            unknownArgs.add(args[i++]);
+                        while (tokens.has(i) && !(options.acceptUnknownOptions || tokens.isNamed(i))) {
+                            unknownArgs.add(tokens.raw(i++));
                         }
                         increment = 0;
                     } else {
@@ -795,21 +853,17 @@ public class JCommander {
                 //
                 // Main parameter
                 //
-                if ("--".equals(arg) && !isDashDash) {
+                if (kind == TokenTable.Kind.DASH_DASH && !isDashDash) {
                     isDashDash = true;
                 }
                 else if (commands.isEmpty()) {
                     //
                     // Regular (non-command) parsing
                     //
-                    initMainParameterValue(arg);
+                    MainParameter mainParameter = initMainParameterValue(session, arg);
                     String value = a; // If there's a non-quoted version, prefer that one
 
-                    for(final Class<? extends IParameterValidator> validator : mainParameter.annotation.validateWith()
-                            ) {
-                        mainParameter.description.validateParameter(validator,
-                            "Default", value);
-                    }
+                    mainParameter.description.validateParameter("Default", value);
 
                     Object convertedValue = value;
 
@@ -829,8 +883,7 @@ public class JCommander {
                     }
 
 
-                    mainParameter.description.setAssigned(true);
-                    mainParameter.addValue(convertedValue);
+                    session.addMainParameterValue(mainParameter, convertedValue);
                 } else {
                     //
                     // Command parsing
@@ -838,13 +891,12 @@ public class JCommander {
                     if (jc == null && validate) {
                         throw new MissingCommandException("Expected a command, got " + arg, arg);
                     } else if (jc != null) {
-                        parsedCommand = jc.programName.name;
-                        parsedAlias = arg; //preserve the original form
+                        session.setParsedCommand(jc.programName.name, arg /* preserve the original form */);
 
                         // Found a valid command, ask it to parse the remainder of the arguments.
                         // Setting the boolean commandParsed to true will force the current
                         // loop to end.
-                        jc.parse(validate, subArray(args, i + 1));
+                        jc.parse(session.forCommand(jc), validate, tokens.buffer(), tokens.sourceAfter(i));
                         commandParsed = true;
                     }
                 }
@@ -852,17 +904,12 @@ public class JCommander {
             i += increment;
         }
 
-        // Mark the parameter descriptions held in fields as assigned
-        descriptions.values().forEach(parameterDescription -> {
-            if (parameterDescription.isAssigned()) {
-                fields.get(parameterDescription.getParameterized()).setAssigned(true);
-            }
-
+        spec.getDescriptions().values().forEach(parameterDescription -> {
             // if the parameter has a default value (not the one assigned by DefaultProvider
             // but the one assigned on the variable initialization), make it as assigned and
             // remove it from the list of parameters to be required
             if (parameterDescription.getDefault() != null && !parameterDescription.getParameterized().getType().isPrimitive()) {
-                requiredFields.remove(parameterDescription.getParameterized());
+                session.fulfill(parameterDescription);
             }
         });
 
@@ -872,55 +919,48 @@ public class JCommander {
       return Boolean.class.isAssignableFrom(fieldType) || boolean.class.isAssignableFrom(fieldType);
     }
 
-    private void handleBooleanOption(ParameterDescription pd, Class<?> fieldType) {
+    private void handleBooleanOption(ParseSession session, ParameterDescription pd, Class<?> fieldType) {
       // Flip the value this boolean was initialized with
-      Boolean value = (Boolean) pd.getParameterized().get(pd.getObject());
+      Boolean value = (Boolean) pd.getParameterized().get(session.target(pd));
       if(value != null) {
-          pd.addValue(value ? "false" : "true");
+          pd.addValue(session, null, value ? "false" : "true", false, true, -1);
       } else if (!fieldType.isPrimitive()) {
-          pd.addValue("true");
+          pd.addValue(session, null, "true", false, true, -1);
       }
-      requiredFields.remove(pd.getParameterized());
+      session.fulfill(pd);
     }
 
-    private class DefaultVariableArity implements IVariableArity {
-
-        @Override
-        public int processVariableArity(String optionName, String[] options) {
-            int i = 0;
-            // For variableArity we consume everything until we hit a known parameter
-            while (i < options.length && !isNamedOption(options[i])) {
+    /**
+     * @param va the variable arity of the option, or null to consume everything until
+     * the next known option.
+     */
+    private int determineArity(TokenTable tokens, int index, ParameterDescription pd, IVariableArity2 va) {
+        if (va == null) {
+            // Whether a token names an option was looked up in the option index when it was classified
+            int i = index + 1;
+            while (tokens.has(i) && !tokens.isNamed(i)) {
                 i++;
             }
-            return i;
+            return i - index - 1;
         }
-    }
-
-    private final IVariableArity DEFAULT_VARIABLE_ARITY = new DefaultVariableArity();
-
-    private final int determineArity(String[] args, int index, ParameterDescription pd, IVariableArity va) {
-        List<String> currentArgs = Lists.newArrayList();
-        for (int j = index + 1; j < args.length; j++) {
-            currentArgs.add(args[j]);
-        }
-        return va.processVariableArity(pd.getParameter().names()[0],
-                currentArgs.toArray(new String[0]));
+        return va.processVariableArity(pd.getParameter().names()[0], tokens.rawView(), index + 1);
     }
 
     /**
      * @return the number of options that were processed.
      */
-    private int processPassword(String[] args, int index, ParameterDescription pd, boolean validate) {
-        final int passwordArity = determineArity(args, index, pd, DEFAULT_VARIABLE_ARITY);
+    private int processPassword(ParseSession session, TokenTable tokens, int index, ParameterDescription pd,
+                                boolean validate) {
+        final int passwordArity = determineArity(tokens, index, pd, null);
         if (passwordArity == 0) {
             // password option with password not specified, use the Console to retrieve the password
             char[] password = readPassword(pd.getDescription(), pd.getParameter().echoInput());
-            pd.addValue(new String(password));
-            requiredFields.remove(pd.getParameterized());
+            pd.addValue(session, null, new String(password), false, true, -1);
+            session.fulfill(pd);
             return 1;
         } else if (passwordArity == 1) {
             // password option with password specified
-            return processFixedArity(args, index, pd, validate, List.class, 1);
+            return processFixedArity(session, tokens, index, pd, validate, List.class, 1);
         } else {
             throw new ParameterException("Password parameter must have at most 1 argument.");
         }
@@ -929,51 +969,58 @@ public class JCommander {
     /**
      * @return the number of options that were processed.
      */
-    private int processVariableArity(String[] args, int index, ParameterDescription pd, boolean validate) {
-        Object arg = pd.getObject();
-        IVariableArity va;
-        if (!(arg instanceof IVariableArity iva)) {
-            va = DEFAULT_VARIABLE_ARITY;
-        } else {
+    private int processVariableArity(ParseSession session, TokenTable tokens, int index, ParameterDescription pd,
+                                     boolean validate) {
+        Object arg = session.target(pd);
+        IVariableArity2 va;
+        if (arg instanceof IVariableArity2 iva) {
             va = iva;
+        } else if (arg instanceof IVariableArity iva) {
+            va = IVariableArity2.of(iva);
+        } else {
+            va = null;
         }
 
-        int arity = determineArity(args, index, pd, va);
-        int result = processFixedArity(args, index, pd, validate, List.class, arity);
+        int arity = determineArity(tokens, index, pd, va);
+        int result = processFixedArity(session, tokens, index, pd, validate, List.class, arity);
         return result;
     }
 
-    private int processFixedArity(String[] args, int index, ParameterDescription pd, boolean validate,
-                                  Class<?> fieldType) {
+    private int processFixedArity(ParseSession session, TokenTable tokens, int index, ParameterDescription pd,
+                                  boolean validate, Class<?> fieldType) {
         // Regular parameter, use the arity to tell use how many values
         // we need to consume
         int arity = pd.getParameter().arity();
         int n = (arity != -1 ? arity : 1);
 
-        return processFixedArity(args, index, pd, validate, fieldType, n);
+        return processFixedArity(session, tokens, index, pd, validate, fieldType, n);
     }
 
-    private int processFixedArity(String[] args, int originalIndex, ParameterDescription pd, boolean validate,
-                                  Class<?> fieldType, int arity) {
+    private int processFixedArity(ParseSession session, TokenTable tokens, int originalIndex, ParameterDescription pd,
+                                  boolean validate, Class<?> fieldType, int arity) {
         int index = originalIndex;
-        String arg = args[index];
+        String arg = tokens.text(index);
         // Special case for boolean parameters of arity 0
         if (arity == 0 && isBooleanType(fieldType)) {
-            handleBooleanOption(pd, fieldType);
+            handleBooleanOption(session, pd, fieldType);
         } else if (arity == 0) {
             throw new ParameterException("Expected a value after parameter " + arg);
-        } else if (index < args.length - 1) {
-            int offset = "--".equals(args[index + 1]) ? 1 : 0;
+        } else if (tokens.has(index + 1)) {
+            int offset = "--".equals(tokens.raw(index + 1)) ? 1 : 0;
 
             Object finalValue = null;
-            if (index + arity < args.length) {
+            if (tokens.has(index + arity + offset)) {
                 for (int j = 1; j <= arity; j++) {
-                    String value = args[index + j + offset];
-                    finalValue = pd.addValue(arg, value, false, validate, j - 1);
-                    requiredFields.remove(pd.getParameterized());
+                    String value = tokens.raw(index + j + offset);
+                    finalValue = pd.addValue(session, arg, value, false, validate, j - 1);
+                    session.fulfill(pd);
                 }
 
-                if (finalValue != null && validate) {
+                if (finalValue != null && validate && pd.hasValueValidators()) {
+                  if (fieldType.isArray() && !finalValue.getClass().isArray()) {
+                    // The values of an array option are buffered until the end of the parse
+                    finalValue = CompactListConverter.toArray(finalValue);
+                  }
                   pd.validateValueParameter(arg, finalValue);
                 }
                 index += arity + offset;
@@ -996,45 +1043,23 @@ public class JCommander {
         return getConsole().readPassword(echoInput);
     }
 
-    private static String[] subArray(String[] args, int index) {
-        return Arrays.copyOfRange(args, index, args.length);
-    }
-
     /**
      * Init the main parameter with the given arg. Note that the main parameter can be either a List<String>
      * or a single value.
      */
-    private void initMainParameterValue(String arg) {
+    private MainParameter initMainParameterValue(ParseSession session, String arg) {
+        MainParameter mainParameter = spec.getMainParameter();
         if (mainParameter == null) {
             throw new ParameterException(
                     "Was passed main parameter '" + arg + "' but no main parameter was defined in your arg class");
         }
 
-        Object object = mainParameter.parameterized.get(mainParameter.object);
-        Class<?> type = mainParameter.parameterized.getType();
-
-        // If it's a List<String>, we might need to create that list and then add the value to it.
-        if (List.class.isAssignableFrom(type)) {
-            List<Object> result;
-            if (object == null) {
-                result = Lists.newArrayList();
-            } else {
-                result = (List) object;
-            }
-
-            if (mainParameter.firstTimeMainParameter) {
-                result.clear();
-                mainParameter.firstTimeMainParameter = false;
-            }
-
-            mainParameter.multipleValue = result;
-            mainParameter.parameterized.set(mainParameter.object, result);
-        }
-
+        session.initMainParameter(mainParameter);
+        return mainParameter;
     }
 
     public String getMainParameterDescription() {
-        if (descriptions == null) createDescriptions();
+        MainParameter mainParameter = getSpec().getMainParameter();
     return mainParameter == null
         ? null
         : mainParameter.annotation != null ? mainParameter.annotation.description() : null;
@@ -1141,11 +1166,11 @@ public class JCommander {
     }
 
     public Map<IKey, ParameterDescription> getDescriptions() {
-        return descriptions;
+        return spec != null ? spec.getDescriptions() : null;
     }
 
     public IMainParameter getMainParameter() {
-        return mainParameter;
+        return spec != null ? spec.getMainParameter() : null;
     }
 
     public static Builder newBuilder() {
@@ -1237,6 +1262,14 @@ public class JCommander {
             return this;
         }
 
+        /**
+         * @see JCommander#setCaseSensitiveEnumValues(boolean)
+         */
+        public Builder caseSensitiveEnumValues(boolean b) {
+            jCommander.setCaseSensitiveEnumValues(b);
+            return this;
+        }
+
         public Builder allowAbbreviatedOptions(boolean b) {
             jCommander.setAllowAbbreviatedOptions(b);
             return this;
@@ -1257,6 +1290,40 @@ public class JCommander {
             return this;
         }
 
+        /**
+         * Streams {@code @files} instead of reading them before parsing.
+         *
+         * @see JCommander#setStreamAtFiles(boolean)
+         */
+        public Builder streamAtFiles(boolean stream) {
+            jCommander.setStreamAtFiles(stream);
+            return this;
+        }
+
+        /**
+         * @see JCommander#setAtFileMaxDepth(int)
+         */
+        public Builder atFileMaxDepth(int depth) {
+            jCommander.setAtFileMaxDepth(depth);
+            return this;
+        }
+
+        /**
+         * @see JCommander#setAtFileCache(AtFileCache)
+         */
+        public Builder atFileCache(AtFileCache cache) {
+            jCommander.setAtFileCache(cache);
+            return this;
+        }
+
+        /**
+         * @see JCommander#setCacheConverters(boolean)
+         */
+        public Builder cacheConverters(boolean cache) {
+            jCommander.setCacheConverters(cache);
+            return this;
+        }
+
         public Builder addConverterInstanceFactory(IStringConverterInstanceFactory factory) {
             jCommander.addConverterInstanceFactory(factory);
             return this;
@@ -1286,7 +1353,7 @@ public class JCommander {
     }
 
     public Map<Parameterized, ParameterDescription> getFields() {
-        return fields;
+        return spec != null ? spec.getFields() : Map.of();
     }
 
     public Comparator<? super ParameterDescription> getParameterDescriptionComparator() {
@@ -1315,18 +1382,23 @@ public class JCommander {
      * format (e.g. HTML).
      */
     public List<ParameterDescription> getParameters() {
-        return new ArrayList<>(fields.values());
+        return new ArrayList<>(getFields().values());
     }
 
     /**
      * @return the main parameter description or null if none is defined.
      */
     public ParameterDescription getMainParameterValue() {
+        MainParameter mainParameter = spec != null ? spec.getMainParameter() : null;
         return mainParameter == null ? null : mainParameter.description;
     }
 
+    private boolean isDebug() {
+        return options.verbose > 0 || System.getProperty(JCommander.DEBUG_PROPERTY) != null;
+    }
+
     private void p(String string) {
-        if (options.verbose > 0 || System.getProperty(JCommander.DEBUG_PROPERTY) != null) {
+        if (isDebug()) {
             getConsole().println("[JCommander] " + string);
         }
     }
@@ -1362,9 +1434,10 @@ public class JCommander {
      */
     public void addConverterInstanceFactory(IStringConverterInstanceFactory converterInstanceFactory) {
         options.converterInstanceFactories.addFirst(converterInstanceFactory);
+        options.converters.clear();
     }
 
-    private IStringConverter<?> findConverterInstance(Parameter parameter, Class<?> forType, String optionName) {
+    IStringConverter<?> findConverterInstance(Parameter parameter, Class<?> forType, String optionName) {
         for (IStringConverterInstanceFactory f : options.converterInstanceFactories) {
             IStringConverter<?> result = f.getConverterInstance(parameter, forType, optionName);
             if (result != null) return result;
@@ -1379,15 +1452,53 @@ public class JCommander {
      * @param value The value to convert
      */
     public Object convertValue(final Parameterized parameterized, Class type, String optionName, String value) {
-        final Parameter annotation = parameterized.getParameter();
+        IStringConverter<?> converter = getConverter(parameterized, type, optionName);
 
         // Do nothing if it's a @DynamicParameter
-        if (annotation == null) return value;
+        return converter != null ? converter.convert(value) : value;
+    }
+
+    /**
+     * @return the converter of the parameter for the given type, or null for a @DynamicParameter.
+     */
+    IStringConverter<?> getConverter(Parameterized parameterized, Class<?> type, String optionName) {
+        final Parameter annotation = parameterized.getParameter();
+        if (annotation == null) return null;
 
         if(optionName == null) {
             optionName = annotation.names().length > 0 ? annotation.names()[0] : "[Main class]";
         }
 
+        if (!options.cacheConverters) {
+            return findConverter(parameterized, annotation, type, optionName);
+        }
+        // Not computeIfAbsent: finding a list converter looks up the converter of its elements
+        ConverterKey key = new ConverterKey(parameterized, type, optionName);
+        IStringConverter<?> converter = options.converters.get(key);
+        if (converter == null) {
+            converter = findConverter(parameterized, annotation, type, optionName);
+            IStringConverter<?> previous = options.converters.putIfAbsent(key, converter);
+            if (previous != null) converter = previous;
+        }
+        return converter;
+    }
+
+    private IStringConverter<?> findConverter(Parameterized parameterized, Parameter annotation, Class<?> type,
+            String optionName) {
+        if (CompactListConverter.supports(type) && annotation.converter() == NoConverter.class
+                && annotation.listConverter() == NoConverter.class) {
+            // A converter of the array or list type itself takes precedence over the compact one
+            IStringConverter<?> converter = findConverterInstance(annotation, type, optionName);
+            if (converter != null) return converter;
+
+            final IParameterSplitter splitter = tryInstantiateConverter(null, annotation.splitter());
+            final Class<?> elementType = CompactListConverter.elementType(type);
+            final IStringConverter<?> elementConverter = options.cacheConverters
+                    ? getConverter(parameterized, elementType, null)
+                    : element -> convertValue(parameterized, elementType, null, element);
+            return new CompactListConverter(splitter, elementType, elementConverter);
+        }
+
         IStringConverter<?> converter = null;
         if (type.isAssignableFrom(List.class) || type.isAssignableFrom(Set.class)) {
             // If a list converter was specified, pass the value to it for direct conversion
@@ -1396,10 +1507,13 @@ public class JCommander {
         if ((type.isAssignableFrom(List.class) || type.isAssignableFrom(Set.class)) && converter == null) {
             // No list converter: use the single value converter and pass each parsed value to it individually
             final IParameterSplitter splitter = tryInstantiateConverter(null, annotation.splitter());
-            converter = new DefaultListConverter(splitter, value1 -> {
-                final Type genericType = parameterized.findFieldGenericType();
-                return convertValue(parameterized, genericType instanceof Class c ? c : String.class, null, value1);
-            });
+            final Type genericType = parameterized.findFieldGenericType();
+            final Class<?> elementType = genericType instanceof Class c ? c : String.class;
+            // Resolve the element converter once, unless each value needs a new one
+            final IStringConverter<?> elementConverter = options.cacheConverters
+                    ? getConverter(parameterized, elementType, null)
+                    : element -> convertValue(parameterized, elementType, null, element);
+            converter = new DefaultListConverter<>(splitter, elementConverter);
         }
 
         if (converter == null) {
@@ -1409,12 +1523,12 @@ public class JCommander {
             converter = findConverterInstance(annotation, type, optionName);
         }
         if (converter == null && type.isEnum()) {
-            converter = new EnumConverter(optionName, type);
+            converter = new EnumConverter(optionName, type, options.caseSensitiveEnumValues);
         }
         if (converter == null) {
             converter = new StringConverter();
         }
-        return converter.convert(value);
+        return converter;
     }
 
     private static <T> T tryInstantiateConverter(String optionName, Class<T> converterClass) {
@@ -1479,6 +1593,8 @@ public class JCommander {
         jc.setProgramName(name, aliases);
         ProgramName progName = jc.programName;
         commands.put(progName, jc);
+        optionIndex = null;
+        fuzzyAliasMap = null;
 
     /*
     * Register aliases
@@ -1516,7 +1632,7 @@ public class JCommander {
     }
 
     public String getParsedCommand() {
-        return parsedCommand;
+        return session != null ? session.getParsedCommand() : null;
     }
 
     /**
@@ -1527,7 +1643,7 @@ public class JCommander {
      * @return Name of command or alias passed to command line. If none passed: <code>null</code>.
      */
     public String getParsedAlias() {
-        return parsedAlias;
+        return session != null ? session.getParsedAlias() : null;
     }
 
     /**
@@ -1546,18 +1662,27 @@ public class JCommander {
     }
 
     private ParameterDescription findParameterDescription(String arg) {
-        return FuzzyMap.findInMap(descriptions, new StringKey(arg),
-                options.caseSensitiveOptions, options.allowAbbreviatedOptions);
+        return getOptionIndex().findParameterDescription(arg, options.allowAbbreviatedOptions);
     }
 
     private JCommander findCommand(ProgramName name) {
-        return FuzzyMap.findInMap(commands, name,
-                options.caseSensitiveOptions, options.allowAbbreviatedOptions);
+        // Program names are only obtained through the alias map, so they match exactly
+        return commands.get(name);
     }
 
     private ProgramName findProgramName(String name) {
-        return FuzzyMap.findInMap(aliasMap, new StringKey(name),
-                options.caseSensitiveOptions, options.allowAbbreviatedOptions);
+        return getFuzzyAliasMap().find(new StringKey(name), options.allowAbbreviatedOptions);
+    }
+
+    private boolean isAmbiguousCommand(String name) {
+        return getFuzzyAliasMap().isAmbiguous(new StringKey(name), options.allowAbbreviatedOptions);
+    }
+
+    private FuzzyMap<ProgramName> getFuzzyAliasMap() {
+        if (fuzzyAliasMap == null || fuzzyAliasMap.isCaseSensitive() != options.caseSensitiveOptions) {
+            fuzzyAliasMap = new FuzzyMap<>(aliasMap, options.caseSensitiveOptions);
+        }
+        return fuzzyAliasMap;
     }
 
     /*
@@ -1640,6 +1765,17 @@ public class JCommander {
         options.caseSensitiveOptions = b;
     }
 
+    /**
+     * Sets whether the values of enum parameters must match the name or toString() of a constant
+     * as is or in upper case, which is the default, or can match them in any case.
+     *
+     * @param b false to match the values of enum parameters ignoring case
+     */
+    public void setCaseSensitiveEnumValues(boolean b) {
+        options.caseSensitiveEnumValues = b;
+        options.converters.clear();
+    }
+
     public void setAllowAbbreviatedOptions(boolean b) {
         options.allowAbbreviatedOptions = b;
     }
@@ -1649,7 +1785,7 @@ public class JCommander {
     }
 
     public List<String> getUnknownOptions() {
-        return unknownArgs;
+        return getSession().getUnknownArgs();
     }
 
     public void setAllowParameterOverwriting(boolean b) {
@@ -1668,4 +1804,50 @@ public class JCommander {
         options.atFileCharset = charset;
     }
 
+    /**
+     * Sets whether {@code @files} are streamed. A streamed {@code @file} is read lazily from a
+     * memory mapped view of the file, one line at a time as the parser reaches its arguments,
+     * and the arguments already parsed are not kept, so that very large {@code @files} don't
+     * need to fit in memory. The list passed to an {@link IVariableArity2} then starts at the
+     * arguments of the current option.
+     *
+     * @param stream whether to stream {@code @files}
+     */
+    public void setStreamAtFiles(boolean stream) {
+        options.streamAtFiles = stream;
+    }
+
+    /**
+     * Sets how deep {@code @files} can include other {@code @files}, 16 by default. An
+     * {@code @file} given on the command line has a depth of 1.
+     *
+     * @param depth the maximum depth
+     */
+    public void setAtFileMaxDepth(int depth) {
+        options.atFileMaxDepth = depth;
+    }
+
+    /**
+     * Sets the cache the arguments of {@code @files} are read from, which can be shared with
+     * other instances. Without a cache, {@code @files} are read from disk at each parse.
+     * Streamed {@code @files} are not cached.
+     *
+     * @param cache the cache, or null to read {@code @files} from disk
+     */
+    public void setAtFileCache(AtFileCache cache) {
+        options.atFileCache = cache;
+    }
+
+    /**
+     * Sets whether the converter of a parameter is created once, the first time a value is
+     * converted to a given type, and reused for the following values and parses, which is the
+     * default. Disable it if your converters keep a state, to get a new converter for each value.
+     *
+     * @param cache false to create a converter for each value
+     */
+    public void setCacheConverters(boolean cache) {
+        options.cacheConverters = cache;
+        options.converters.clear();
+    }
+
 }
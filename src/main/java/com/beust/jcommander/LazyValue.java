@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.util.function.Supplier;
+
+/**
+ * The value of a {@code Supplier<T>} parameter: the string found on the command line,
+ * converted and validated the first time {@link #get()} is called, and then kept.
+ *
+ * @param <T> the type of the converted value
+ */
+final class LazyValue<T> implements Supplier<T> {
+
+  private final String string;
+  /** Converts and validates the string, null once it succeeded. */
+  private Supplier<T> conversion;
+  private volatile boolean converted;
+  private T value;
+
+  LazyValue(String string, Supplier<T> conversion) {
+    this.string = string;
+    this.conversion = conversion;
+  }
+
+  /**
+   * @throws ParameterException if the value can't be converted or is invalid, every time
+   * this method is called
+   */
+  @Override
+  public T get() {
+    if (!converted) {
+      synchronized (this) {
+        if (!converted) {
+          value = conversion.get();
+          conversion = null;
+          converted = true;
+        }
+      }
+    }
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return converted ? String.valueOf(value) : string;
+  }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the arguments of an {@code @file} lazily, one line at a time, from a memory mapped
+ * view of the file. Lines are split the same way {@link JCommander} splits them when it
+ * reads the whole file: empty lines and # comments are skipped, and a line yields its first
+ * word followed by the rest of the line, if any.
+ *
+ * The file is mapped in chunks of at most {@link #CHUNK_SIZE} bytes by default, and the
+ * channel is only kept open while mapping a chunk.
+ */
+class MappedAtFileReader implements Iterator<String> {
+  static final int CHUNK_SIZE = 64 * 1024 * 1024;
+
+  private final Path path;
+  private final int chunkSize;
+  private final long size;
+  private final CharsetDecoder decoder;
+
+  /** The current chunk, and the offset in the file where it ends. */
+  private ByteBuffer bytes;
+  private long end;
+  private boolean endOfInput;
+
+  private final CharBuffer chars = CharBuffer.allocate(8192);
+  /** True if the last line ended with '\r', in which case a following '\n' is skipped. */
+  private boolean skipLF;
+  private final Deque<String> pending = new ArrayDeque<>(2);
+
+  MappedAtFileReader(Path path, Charset charset) throws IOException {
+    this(path, charset, CHUNK_SIZE);
+  }
+
+  MappedAtFileReader(Path path, Charset charset, int chunkSize) throws IOException {
+    this.path = path;
+    this.chunkSize = chunkSize;
+    this.decoder = charset.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPORT)
+        .onUnmappableCharacter(CodingErrorAction.REPORT);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      this.size = channel.size();
+      map(channel, 0);
+    }
+    chars.limit(0);
+  }
+
+  private void map(FileChannel channel, long start) throws IOException {
+    end = Math.min(size, start + chunkSize);
+    bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      while (pending.isEmpty()) {
+        String line = readLine();
+        if (line == null) {
+          return false;
+        }
+        // Allow empty lines and # comments in these at files
+        if (!line.isEmpty() && !line.trim().startsWith("#")) {
+          for (String arg : line.split("\\s", 2)) {
+            pending.add(arg);
+          }
+        }
+      }
+      return true;
+    } catch (IOException e) {
+      throw new ParameterException("Could not read file " + path + ": " + e);
+    }
+  }
+
+  @Override
+  public String next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return pending.poll();
+  }
+
+  /**
+   * @return the next line without its terminator, or null at the end of the file.
+   */
+  private String readLine() throws IOException {
+    StringBuilder line = null;
+    while (true) {
+      if (!chars.hasRemaining() && !fill()) {
+        return line != null ? line.toString() : null;
+      }
+      if (skipLF) {
+        skipLF = false;
+        if (chars.get(chars.position()) == '\n') {
+          chars.get();
+          continue;
+        }
+      }
+      int start = chars.position();
+      while (chars.hasRemaining()) {
+        char c = chars.get();
+        if (c == '\n' || c == '\r') {
+          skipLF = c == '\r';
+          int length = chars.position() - 1 - start;
+          if (line == null) {
+            return new String(chars.array(), start, length);
+          }
+          return line.append(chars.array(), start, length).toString();
+        }
+      }
+      if (line == null) {
+        line = new StringBuilder();
+      }
+      line.append(chars.array(), start, chars.position() - start);
+    }
+  }
+
+  /**
+   * Decode the next characters of the file.
+   *
+   * @return false at the end of the file.
+   */
+  private boolean fill() throws IOException {
+    if (endOfInput) {
+      return false;
+    }
+    chars.clear();
+    while (chars.position() == 0) {
+      boolean last = end == size;
+      CoderResult result = decoder.decode(bytes, chars, last);
+      if (result.isError()) {
+        result.throwException();
+      }
+      if (result.isOverflow()) {
+        break;
+      }
+      if (!last) {
+        // Map the next chunk, starting with the bytes of a character cut in two, if any
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+          map(channel, end - bytes.remaining());
+        }
+      } else {
+        decoder.flush(chars);
+        endOfInput = true;
+        break;
+      }
+    }
+    chars.flip();
+    return chars.hasRemaining();
+  }
+}
@@ -0,0 +1,246 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import com.beust.jcommander.converters.NoConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Generates the GraalVM native-image reachability metadata of a configured {@link JCommander}
+ * and its commands: the classes it reflects on (the objects, their super classes and
+ * delegates, the converters, splitters and validators it instantiates, the enums it converts
+ * to) and the resource bundles it loads.
+ *
+ * Run it at build time, e.g.
+ * {@code java com.beust.jcommander.NativeImageMetadata <directory> <args class> [<command class>...]},
+ * and package the files it writes under {@code META-INF/native-image/<group>/<artifact>}.
+ */
+public class NativeImageMetadata {
+
+  private enum Access {
+    /** Instantiated through its declared constructors. */
+    CONSTRUCTORS,
+    /** Scanned for annotated fields and methods, and their getters. */
+    MEMBERS
+  }
+
+  private final Map<String, Set<Access>> classes = new TreeMap<>();
+  private final Set<String> bundles = new TreeSet<>();
+
+  public NativeImageMetadata(JCommander jc) {
+    // Parameterized looks up the methods of these interfaces to bind the accessors of binders
+    add(Function.class, Access.MEMBERS);
+    add(BiConsumer.class, Access.MEMBERS);
+    add(jc);
+  }
+
+  private void add(JCommander jc) {
+    CommandSpec spec = jc.getSpec();
+    for (Object object : jc.getObjects()) {
+      addObject(object);
+    }
+    for (CommandSpec.Delegate delegate : spec.getDelegates()) {
+      addObject(delegate.object());
+    }
+    for (ParameterDescription pd : spec.getFields().values()) {
+      addParameter(jc, pd);
+    }
+    if (spec.getMainParameter() != null) {
+      addParameter(jc, spec.getMainParameter().getDescription());
+    }
+    for (IParametersValidator validator : spec.getParametersValidators()) {
+      add(validator.getClass(), Access.CONSTRUCTORS);
+    }
+    if (jc.getBundle() != null && jc.getBundle().getBaseBundleName() != null) {
+      bundles.add(jc.getBundle().getBaseBundleName());
+    }
+    for (JCommander command : jc.getRawCommands().values()) {
+      add(command);
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private void addObject(Object object) {
+    add(object.getClass(), Access.CONSTRUCTORS);
+    addClassTree(object.getClass());
+    Parameters parameters = object.getClass().getAnnotation(Parameters.class);
+    if (parameters != null && !parameters.resourceBundle().isEmpty()) {
+      bundles.add(parameters.resourceBundle());
+    }
+    ResourceBundle resourceBundle = object.getClass().getAnnotation(ResourceBundle.class);
+    if (resourceBundle != null) {
+      bundles.add(resourceBundle.value());
+    }
+  }
+
+  /**
+   * Add the classes that Parameterized scans for the given class.
+   */
+  private void addClassTree(Class<?> cls) {
+    if (cls == null || cls == Object.class || !add(cls, Access.MEMBERS)) {
+      return;
+    }
+    addClassTree(cls.getSuperclass());
+    for (Class<?> i : cls.getInterfaces()) {
+      addClassTree(i);
+    }
+  }
+
+  private void addParameter(JCommander jc, ParameterDescription pd) {
+    WrappedParameter wrapped = pd.getParameter();
+    for (Class<?> validator : wrapped.validateWith()) {
+      add(validator, Access.CONSTRUCTORS);
+    }
+    for (Class<?> validator : wrapped.validateValueWith()) {
+      add(validator, Access.CONSTRUCTORS);
+    }
+
+    Parameter parameter = wrapped.getParameter();
+    if (parameter == null) {
+      // Dynamic parameters are not converted
+      return;
+    }
+    add(parameter.converter(), Access.CONSTRUCTORS);
+    add(parameter.listConverter(), Access.CONSTRUCTORS);
+    add(parameter.splitter(), Access.CONSTRUCTORS);
+
+    Parameterized parameterized = pd.getParameterized();
+    addConverted(jc, parameter, parameterized.getType(), pd.getLongestName());
+    Type genericType = parameterized.getGenericType();
+    if (genericType instanceof ParameterizedType p && p.getActualTypeArguments()[0] instanceof Class<?> c) {
+      addConverted(jc, parameter, c, pd.getLongestName());
+    }
+    if (CompactListConverter.supports(parameterized.getType())) {
+      addConverted(jc, parameter, CompactListConverter.elementType(parameterized.getType()), pd.getLongestName());
+    }
+  }
+
+  /**
+   * Add the converter JCommander finds for the type, and the type itself if it's an enum
+   * or has @SubParameter fields.
+   */
+  private void addConverted(JCommander jc, Parameter parameter, Class<?> type, String optionName) {
+    IStringConverter<?> converter = jc.findConverterInstance(parameter, type, optionName);
+    if (converter != null) {
+      add(converter.getClass(), Access.CONSTRUCTORS);
+    }
+    if (type.isEnum()) {
+      add(type, Access.MEMBERS);
+    }
+    for (Field field : type.getDeclaredFields()) {
+      if (field.isAnnotationPresent(SubParameter.class)) {
+        add(type, Access.MEMBERS);
+        add(type, Access.CONSTRUCTORS);
+        break;
+      }
+    }
+  }
+
+  /**
+   * @return true if the access to the class wasn't registered yet
+   */
+  private boolean add(Class<?> cls, Access access) {
+    if (cls == null || cls == NoConverter.class || cls.isHidden() || cls.isSynthetic()
+        || cls.isPrimitive() || cls.isArray()) {
+      return false;
+    }
+    return classes.computeIfAbsent(cls.getName(), k -> EnumSet.noneOf(Access.class)).add(access);
+  }
+
+  /**
+   * @return the content of reflect-config.json
+   */
+  public String getReflectConfig() {
+    StringBuilder sb = new StringBuilder("[\n");
+    String separator = "";
+    for (Map.Entry<String, Set<Access>> entry : classes.entrySet()) {
+      sb.append(separator).append("  {\n    \"name\": \"").append(entry.getKey()).append("\"");
+      if (entry.getValue().contains(Access.CONSTRUCTORS)) {
+        sb.append(",\n    \"allDeclaredConstructors\": true");
+      }
+      if (entry.getValue().contains(Access.MEMBERS)) {
+        sb.append(",\n    \"allDeclaredFields\": true");
+        sb.append(",\n    \"allDeclaredMethods\": true");
+        sb.append(",\n    \"allPublicMethods\": true");
+      }
+      sb.append("\n  }");
+      separator = ",\n";
+    }
+    return sb.append("\n]\n").toString();
+  }
+
+  /**
+   * @return the content of resource-config.json
+   */
+  public String getResourceConfig() {
+    StringBuilder sb = new StringBuilder("{\n  \"bundles\": [");
+    String separator = "\n";
+    for (String bundle : bundles) {
+      sb.append(separator).append("    { \"name\": \"").append(bundle).append("\" }");
+      separator = ",\n";
+    }
+    return sb.append(bundles.isEmpty() ? "]\n}\n" : "\n  ]\n}\n").toString();
+  }
+
+  /**
+   * Write reflect-config.json and resource-config.json to the directory.
+   */
+  public void writeTo(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    Files.writeString(directory.resolve("reflect-config.json"), getReflectConfig());
+    Files.writeString(directory.resolve("resource-config.json"), getResourceConfig());
+  }
+
+  /**
+   * Usage: {@code <directory> <args class> [<command class>...]}. The classes need a no-arg
+   * constructor, and the command classes a @Parameters annotation naming them.
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length < 2) {
+      System.err.println("Usage: " + NativeImageMetadata.class.getName()
+          + " <directory> <args class> [<command class>...]");
+      System.exit(1);
+    }
+    JCommander.Builder builder = JCommander.newBuilder().addObject(newInstance(args[1]));
+    for (int i = 2; i < args.length; i++) {
+      builder.addCommand(newInstance(args[i]));
+    }
+    new NativeImageMetadata(builder.build()).writeTo(Path.of(args[0]));
+  }
+
+  private static Object newInstance(String className) throws ReflectiveOperationException {
+    Constructor<?> constructor = Class.forName(className).getDeclaredConstructor();
+    constructor.setAccessible(true);
+    return constructor.newInstance();
+  }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import com.beust.jcommander.FuzzyMap.IKey;
+import com.beust.jcommander.internal.Maps;
+import com.beust.jcommander.internal.PrefixTrie;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Precompiled index of the option and command names of a {@link JCommander}, so that
+ * classifying a command line token takes a time proportional to its length instead of
+ * the number of options: an exact match hash for the common case and character tries
+ * for abbreviations, case insensitive look ups and separators.
+ */
+class OptionIndex {
+
+  /**
+   * An option name along with the separators declared by the class that owns it.
+   */
+  private record OptionEntry(ParameterDescription description, String separator) {}
+
+  /**
+   * A @DynamicParameter name along with its assignment string.
+   */
+  private record DynamicEntry(String name, String assignment) {}
+
+  private final boolean caseSensitive;
+  private final Map<String, OptionEntry> exactOptions = Maps.newHashMap();
+  private final PrefixTrie<OptionEntry> options;
+  private final PrefixTrie<String> commands;
+  private final PrefixTrie<DynamicEntry> dynamicOptions = new PrefixTrie<>(true);
+
+  OptionIndex(Map<IKey, ParameterDescription> descriptions, Collection<? extends IKey> commandNames,
+      boolean caseSensitive) {
+    this.caseSensitive = caseSensitive;
+    this.options = new PrefixTrie<>(caseSensitive);
+    this.commands = new PrefixTrie<>(caseSensitive);
+
+    descriptions.forEach((key, pd) -> {
+      Parameters p = pd.getObject().getClass().getAnnotation(Parameters.class);
+      OptionEntry entry = new OptionEntry(pd, p != null ? p.separators() : " ");
+      exactOptions.put(key.getName(), entry);
+      options.put(key.getName(), entry);
+      if (pd.isDynamicParameter()) {
+        dynamicOptions.put(key.getName(), new DynamicEntry(key.getName(), pd.getParameter().getAssignment()));
+      }
+    });
+    commandNames.forEach(key -> commands.put(key.getName(), key.getName()));
+  }
+
+  boolean isCaseSensitive() {
+    return caseSensitive;
+  }
+
+  /**
+   * @return true if the argument names an option or a command, either exactly, through
+   * a separator (e.g. -author=foo) or, if allowed, as an abbreviation.
+   */
+  boolean isNamedOption(String arg, boolean allowAbbreviations) {
+    if (allowAbbreviations) {
+      return options.countPrefixedBy(arg) > 0 || commands.countPrefixedBy(arg) > 0;
+    }
+    if (findExactOption(arg) != null || commands.get(arg) != null) {
+      return true;
+    }
+    // An option with a separator only needs to be a prefix of the argument
+    OptionEntry entry = options.findLongestPrefixOf(arg);
+    return entry != null && !" ".equals(entry.separator());
+  }
+
+  /**
+   * @return the separators of the option the argument starts with, or " " if none.
+   */
+  String getSeparatorFor(String arg) {
+    OptionEntry entry = options.findLongestPrefixOf(arg);
+    return entry != null ? entry.separator() : " ";
+  }
+
+  /**
+   * @return the description of the option named by the argument, or null.
+   * @throws ParameterException if abbreviations are allowed and the argument is ambiguous
+   */
+  ParameterDescription findParameterDescription(String arg, boolean allowAbbreviations) {
+    OptionEntry entry;
+    if (allowAbbreviations) {
+      int count = options.countPrefixedBy(arg);
+      if (count > 1) {
+        throw FuzzyMap.ambiguous(arg, options.namesPrefixedBy(arg));
+      }
+      entry = count == 1 ? options.findUniquePrefixedBy(arg) : null;
+    } else {
+      entry = findExactOption(arg);
+    }
+    return entry != null ? entry.description() : null;
+  }
+
+  /**
+   * @return true if abbreviations are allowed and the argument is an abbreviation of several
+   * options, in which case {@link #findParameterDescription} throws.
+   */
+  boolean isAmbiguous(String arg, boolean allowAbbreviations) {
+    return allowAbbreviations && options.countPrefixedBy(arg) > 1;
+  }
+
+  /**
+   * @return the name of the dynamic parameter that the argument starts with and assigns
+   * a value to (e.g. "-D" for "-Dfoo=bar"), or null.
+   */
+  String findDynamicOptionPrefix(String arg) {
+    DynamicEntry entry = dynamicOptions.findLongestPrefixOf(arg, arg.length() - 1);
+    return entry != null && arg.contains(entry.assignment()) ? entry.name() : null;
+  }
+
+  private OptionEntry findExactOption(String arg) {
+    return caseSensitive ? exactOptions.get(arg) : options.get(arg);
+  }
+}
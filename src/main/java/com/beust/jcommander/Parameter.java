@@ -104,7 +104,7 @@ public @interface Parameter {
   Class<? extends IValueValidator>[] validateValueWith() default NoValueValidator.class;
 
   /**
-   * @return true if this parameter has a variable arity. See @{IVariableArity}
+   * @return true if this parameter has a variable arity. See @{IVariableArity} and @{IVariableArity2}
    */
   boolean variableArity() default false;
 
@@ -18,6 +18,7 @@
 
 package com.beust.jcommander;
 
+import com.beust.jcommander.converters.DefaultListConverter;
 import com.beust.jcommander.validators.NoValidator;
 import com.beust.jcommander.validators.NoValueValidator;
 
@@ -25,8 +26,11 @@ import static com.beust.jcommander.Strings.isStringEmpty;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
 import java.util.ResourceBundle;
+import java.util.function.Supplier;
 
 public class ParameterDescription {
   private Object object;
@@ -37,7 +41,10 @@ public class ParameterDescription {
 
   /** The field/method */
   private Parameterized parameterized;
-  /** Keep track of whether a value was added to flag an error */
+  /**
+   * Keep track of whether a value was added to flag an error, published by the session
+   * of {@link JCommander#parse(String...)}.
+   */
   private boolean assigned = false;
   private ResourceBundle bundle;
   private String description;
@@ -45,6 +52,10 @@ public class ParameterDescription {
   private Object defaultObject;
   /** Longest of the names(), used to present usage() alphabetically */
   private String longestName = "";
+  /** The validators of this parameter, without {@link NoValidator}, created on first use */
+  private volatile List<IParameterValidator> validators;
+  /** The value validators of this parameter, without {@link NoValueValidator}, created on first use */
+  private volatile List<IValueValidator<Object>> valueValidators;
 
   public ParameterDescription(Object object, DynamicParameter annotation,
       Parameterized parameterized,
@@ -174,7 +185,9 @@ public class ParameterDescription {
    * @return defaultValueDescription, if description is empty string, return default Object.
    */
   public Object getDefaultValueDescription() {
-    return parameterAnnotation == null ? defaultObject : parameterAnnotation.defaultValueDescription().isEmpty() ? defaultObject : parameterAnnotation.defaultValueDescription();
+    Object def = defaultObject != null && CompactListConverter.supports(defaultObject.getClass()) && defaultObject.getClass().isArray()
+        ? CompactListConverter.toList(defaultObject) : defaultObject;
+    return parameterAnnotation == null ? def : parameterAnnotation.defaultValueDescription().isEmpty() ? def : parameterAnnotation.defaultValueDescription();
   }
 
   public String getDescription() {
@@ -204,7 +217,7 @@ public class ParameterDescription {
   private boolean isMultiOption() {
     Class<?> fieldType = parameterized.getType();
     return fieldType.equals(List.class) || fieldType.equals(Set.class)
-        || parameterized.isDynamicParameter();
+        || CompactListConverter.supports(fieldType) || parameterized.isDynamicParameter();
   }
 
   public void addValue(String value) {
@@ -229,16 +242,20 @@ public class ParameterDescription {
    * converter, and if we can't find any, throw an exception.
    */
   public void addValue(String value, boolean isDefault) {
-    addValue(null, value, isDefault, true, -1);
+    ParseSession session = jCommander.getSession();
+    addValue(session, null, value, isDefault, true, -1);
+    // Outside of parse(), nothing else stores the buffered values of an array into its field
+    session.flushArrays();
   }
 
-  Object addValue(String name, String value, boolean isDefault, boolean validate, int currentIndex) {
+  Object addValue(ParseSession session, String name, String value, boolean isDefault, boolean validate,
+      int currentIndex) {
     p("Adding " + (isDefault ? "default " : "") + "value:" + value
         + " to parameter:" + parameterized.getName());
     if(name == null) {
       name = wrappedParameter.names()[0];
     }
-    if (currentIndex == 00 && assigned && ! isMultiOption() && !jCommander.isParameterOverwritingAllowed()
+    if (currentIndex == 00 && session.isAssigned(this) && ! isMultiOption() && !jCommander.isParameterOverwritingAllowed()
             || isNonOverwritableForced()) {
       throw new ParameterException("Can only specify option " + name + " once.");
     }
@@ -248,21 +265,92 @@ public class ParameterDescription {
     }
 
     Class<?> type = parameterized.getType();
+    Object object = session.target(this);
+    boolean isCollection = Collection.class.isAssignableFrom(type);
+
+    if (type == Supplier.class && parameterAnnotation != null) {
+      // Converted and validated on first access, so there is no value object to return
+      IStringConverter<?> converter = jCommander.getConverter(parameterized, lazyType(), name);
+      String optionName = name;
+      LazyValue<Object> lazy = new LazyValue<>(value, () -> {
+        Object convertedValue = converter.convert(value);
+        if (validate) {
+          validateValueParameter(optionName, convertedValue);
+        }
+        return convertedValue;
+      });
+      wrappedParameter.addValue(parameterized, object, lazy);
+      if (! isDefault) session.setAssigned(this);
+      session.setValue(this, lazy);
+      return null;
+    }
+
+    IStringConverter<?> converter = jCommander.getConverter(parameterized, type, name);
+    if (converter instanceof CompactListConverter compact) {
+      Object converted = null;
+      if (validate && hasValueValidators()) {
+        // Validated as a value of the type of the field, before being appended
+        converted = compact.newBuffer(null);
+        compact.append(value, converted);
+        validateValueParameter(name, type.isArray() ? CompactListConverter.toArray(converted) : converted);
+      }
+      Object target;
+      if (! type.isArray()) {
+        target = targetCollection(session, object, type, isDefault);
+      } else if (isDefault) {
+        target = compact.newBuffer(parameterized.get(object));
+      } else {
+        // Grown during the parse and trimmed into the field at the end
+        target = session.arrayBuffer(this,
+            pd -> compact.newBuffer(session.isAssigned(pd) ? parameterized.get(object) : null));
+      }
+      if (converted != null) {
+        CompactListConverter.appendAll(converted, target);
+      } else {
+        compact.append(value, target);
+      }
+      if (isDefault && type.isArray()) {
+        parameterized.set(object, CompactListConverter.toArray(target));
+      }
+      if (! isDefault) session.setAssigned(this);
+      session.setValue(this, target);
+      return target;
+    }
+    if (isCollection && converter instanceof DefaultListConverter<?> listConverter
+        && (!validate || !hasValueValidators())) {
+      // Split and convert the elements straight into a new collection of the field. If the field
+      // already holds values, convert them aside first, so that an invalid element leaves it unchanged
+      @SuppressWarnings("unchecked")
+      Collection<Object> l = (Collection<Object>) parameterized.get(object);
+      if (l == null || (!isDefault && !session.isAssigned(this))) {
+        l = newCollection(type);
+        listConverter.convert(value, l);
+        parameterized.set(object, l);
+      } else {
+        List<Object> converted = new ArrayList<>();
+        listConverter.convert(value, converted);
+        l.addAll(converted);
+      }
+      if (! isDefault) session.setAssigned(this);
+      session.setValue(this, l);
+      return l;
+    }
+    if (type.isPrimitive() && (!validate || !hasValueValidators())
+        && PrimitiveBinding.set(parameterized, object, converter, value)) {
+      // Converted and stored without boxing, there is no value object to return
+      if (! isDefault) session.setAssigned(this);
+      session.setValueInField(this);
+      return null;
+    }
 
-    Object convertedValue = jCommander.convertValue(getParameterized(), getParameterized().getType(), name, value);
+    Object convertedValue = converter != null ? converter.convert(value) : value;
     if (validate) {
       validateValueParameter(name, convertedValue);
     }
-    boolean isCollection = Collection.class.isAssignableFrom(type);
 
     Object finalValue;
     if (isCollection) {
-      @SuppressWarnings("unchecked")
-      Collection<Object> l = (Collection<Object>) parameterized.get(object);
-      if (l == null || fieldIsSetForTheFirstTime(isDefault)) {
-          l = newCollection(type);
-          parameterized.set(object, l);
-      }
+      Collection<Object> l = targetCollection(session, object, type, isDefault);
       if (convertedValue instanceof Collection c) {
           l.addAll(c);
       } else {
@@ -274,27 +362,52 @@ public class ParameterDescription {
       List<SubParameterIndex> subParameters = findSubParameters(type);
       if (! subParameters.isEmpty()) {
         // @SubParameters found
-        finalValue = handleSubParameters(value, currentIndex, type, subParameters);
+        finalValue = handleSubParameters(object, value, currentIndex, type, subParameters);
       } else {
         // No, regular parameter
         wrappedParameter.addValue(parameterized, object, convertedValue);
         finalValue = convertedValue;
       }
     }
-    if (! isDefault) assigned = true;
+    if (! isDefault) session.setAssigned(this);
 
-    this.value = finalValue;
+    session.setValue(this, finalValue);
 
     return finalValue;
   }
 
-  private Object value;
+  /**
+   * @return the collection of the field, created if the field is null or if this is the first
+   * value found on the command line, which replaces the default values.
+   */
+  private Collection<Object> targetCollection(ParseSession session, Object object, Class<?> type,
+      boolean isDefault) {
+    @SuppressWarnings("unchecked")
+    Collection<Object> l = (Collection<Object>) parameterized.get(object);
+    if (l == null || (!isDefault && !session.isAssigned(this))) {
+      l = newCollection(type);
+      parameterized.set(object, l);
+    }
+    return l;
+  }
+
+  /**
+   * @return the type of the values supplied by a {@code Supplier<T>} parameter.
+   */
+  private Class<?> lazyType() {
+    if (parameterized.getGenericType() instanceof ParameterizedType p) {
+      Type t = p.getActualTypeArguments()[0];
+      if (t instanceof Class<?> c) return c;
+      if (t instanceof ParameterizedType pt) return (Class<?>) pt.getRawType();
+    }
+    return String.class;
+  }
 
-  Object getValue() {
-	  return value;
+  boolean hasValueValidators() {
+    return ! valueValidators().isEmpty();
   }
 
-  private Object handleSubParameters(String value, int currentIndex, Class<?> type,
+  private Object handleSubParameters(Object object, String value, int currentIndex, Class<?> type,
       List<SubParameterIndex> subParameters) {
     Object finalValue;// Yes, assign each following argument to the corresponding field of that object
     SubParameterIndex sai = null;
@@ -348,50 +461,83 @@ public class ParameterDescription {
     return result;
   }
 
-  private void validateParameter(String name, String value) {
-    final Class<? extends IParameterValidator> validators[] = wrappedParameter.validateWith();
-    if (validators != null && validators.length > 0) {
-        for(final Class<? extends IParameterValidator> validator: validators) {
-          validateParameter(validator, name, value);
-        }
+  /**
+   * @return the validators of this parameter, instantiated once.
+   */
+  private List<IParameterValidator> validators() {
+    List<IParameterValidator> result = validators;
+    if (result == null) {
+      validators = result = newValidators(wrappedParameter.validateWith(), NoValidator.class);
+    }
+    return result;
+  }
+
+  /**
+   * @return the value validators of this parameter, instantiated once.
+   */
+  @SuppressWarnings("unchecked")
+  private List<IValueValidator<Object>> valueValidators() {
+    List<IValueValidator<Object>> result = valueValidators;
+    if (result == null) {
+      // Each validator accepts the values of the type of this parameter
+      valueValidators = result = (List<IValueValidator<Object>>) (List<?>)
+          newValidators(wrappedParameter.validateValueWith(), NoValueValidator.class);
+    }
+    return result;
+  }
+
+  private static <T> List<T> newValidators(Class<? extends T>[] classes, Class<? extends T> none) {
+    if (classes == null) return List.of();
+    List<T> result = new ArrayList<>(classes.length);
+    for (Class<? extends T> c : classes) {
+      if (c != none) result.add(newValidator(c));
+    }
+    return List.copyOf(result);
+  }
+
+  private static <T> T newValidator(Class<T> validator) {
+    try {
+      return validator.getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new ParameterException("Can't instantiate validator:" + e);
+    }
+  }
+
+  void validateParameter(String name, String value) {
+    for (IParameterValidator validator : validators()) {
+      validateParameter(validator, name, value);
     }
   }
 
   void validateValueParameter(String name, Object value) {
-    final Class<? extends IValueValidator> validators[] = wrappedParameter.validateValueWith();
-    if (validators != null && validators.length > 0) {
-      for(final Class<? extends IValueValidator> validator: validators) {
-        validateValueParameter(validator, name, value);
-      }
+    for (IValueValidator<Object> validator : valueValidators()) {
+      p("Validating value parameter:" + name + " value:" + value + " validator:" + validator.getClass());
+      validator.validate(name, value);
     }
   }
 
   public void validateValueParameter(Class<? extends IValueValidator> validator,
       String name, Object value) {
-    try {
-      if (validator != NoValueValidator.class) {
-        p("Validating value parameter:" + name + " value:" + value + " validator:" + validator);
-      }
-      validator.newInstance().validate(name, value);
-    } catch (InstantiationException | IllegalAccessException e) {
-      throw new ParameterException("Can't instantiate validator:" + e);
+    if (validator != NoValueValidator.class) {
+      p("Validating value parameter:" + name + " value:" + value + " validator:" + validator);
+      newValidator(validator).validate(name, value);
     }
   }
 
   public void validateParameter(Class<? extends IParameterValidator> validator,
       String name, String value) {
+    if (validator != NoValidator.class) {
+      validateParameter(newValidator(validator), name, value);
+    }
+  }
+
+  private void validateParameter(IParameterValidator validator, String name, String value) {
+    p("Validating parameter:" + name + " value:" + value + " validator:" + validator.getClass());
     try {
-    	
-      if (validator != NoValidator.class) {
-        p("Validating parameter:" + name + " value:" + value + " validator:" + validator);
+      validator.validate(name, value);
+      if (validator instanceof IParameterValidator2 validator2) {
+        validator2.validate(name, value, this);
       }
-      validator.getDeclaredConstructor().newInstance().validate(name, value);
-      if (IParameterValidator2.class.isAssignableFrom(validator)) {
-        IParameterValidator2 instance = (IParameterValidator2) validator.getDeclaredConstructor().newInstance();
-        instance.validate(name, value, this);
-      }
-    } catch (InstantiationException | IllegalAccessException e) {
-      throw new ParameterException("Can't instantiate validator:" + e);
     } catch(ParameterException ex) {
       throw ex;
     } catch(Exception ex) {
@@ -407,7 +553,10 @@ public class ParameterDescription {
    */
   @SuppressWarnings("unchecked")
   private Collection<Object> newCollection(Class<?> type) {
-    if (SortedSet.class.isAssignableFrom(type)) return new TreeSet();
+    if (type == IntList.class) return (Collection) new IntList();
+    else if (type == LongList.class) return (Collection) new LongList();
+    else if (type == DoubleList.class) return (Collection) new DoubleList();
+    else if (SortedSet.class.isAssignableFrom(type)) return new TreeSet();
     else if (LinkedHashSet.class.isAssignableFrom(type)) return new LinkedHashSet();
     else if (Set.class.isAssignableFrom(type)) return new HashSet();
     else if (List.class.isAssignableFrom(type)) return new ArrayList();
@@ -417,14 +566,6 @@ public class ParameterDescription {
     }
   }
 
-  /*
-   * Tests if its the first time a non-default value is
-   * being added to the field.
-   */
-  private boolean fieldIsSetForTheFirstTime(boolean isDefault) {
-    return (!isDefault && !assigned);
-  }
-
   private void p(String string) {
     if (System.getProperty(JCommander.DEBUG_PROPERTY) != null) {
       jCommander.getConsole().println("[ParameterDescription] " + string);
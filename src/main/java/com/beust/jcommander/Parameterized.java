@@ -4,19 +4,60 @@ import com.beust.jcommander.internal.Lists;
 import com.beust.jcommander.internal.Sets;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Encapsulate a field or a method annotated with @Parameter or @DynamicParameter
+ *
+ * Values are read and written through method handles unreflected from the field or method,
+ * which the JIT can inline, falling back to reflection when a handle can't be created.
+ * The parameterizeds created by an {@link IParametersBinder} have no field nor method and
+ * use the functions it provides instead.
  */
 public class Parameterized {
 
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  /** The getter of a method without a getter or a field to read the value from. */
+  private static final MethodHandle NO_GETTER =
+      MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class);
+  private static final MethodHandle APPLY;
+  private static final MethodHandle ACCEPT;
+  static {
+    try {
+      APPLY = LOOKUP.findVirtual(Function.class, "apply", GETTER_TYPE);
+      ACCEPT = LOOKUP.findVirtual(BiConsumer.class, "accept", SETTER_TYPE);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
   // Either a method or a field
   private Field field;
   private Method method;
-  private Method getter;
+  private final String name;
+  private final Class<?> type;
+  private final Type genericType;
+  private final boolean isMethod;
+
+  /**
+   * (Object)Object. For a method, found on first use since it depends on the class of
+   * the object. For a field, null if reflection must be used.
+   */
+  private volatile MethodHandle getter;
+  /** (Object,Object)void, null if reflection must be used. */
+  private final MethodHandle setter;
+  /** (Object,type)void for a field of a primitive type, null otherwise. */
+  private final MethodHandle primitiveSetter;
 
   // Either of these two
   private WrappedParameter wrappedParameter;
@@ -33,10 +74,102 @@ public class Parameterized {
       } else {
         setFieldAccessibleWithoutFinalCheck(this.field);
       }
+      name = field.getName();
+      type = field.getType();
+      genericType = field.getGenericType();
+      getter = unreflectGetter(field);
+      setter = unreflectSetter(field);
+      primitiveSetter = type.isPrimitive() ? unreflectPrimitiveSetter(field) : null;
+    } else {
+      name = method.getName();
+      type = method.getParameterTypes()[0];
+      genericType = method.getGenericParameterTypes()[0];
+      setter = unreflectSetter(method);
+      primitiveSetter = null;
     }
+    isMethod = method != null;
     parametersDelegate = pd;
   }
 
+  private Parameterized(WrappedParameter wp, ParametersDelegate pd, String name, Class<?> type,
+      Type genericType, boolean isMethod, Function<Object, Object> getter,
+      BiConsumer<Object, Object> setter) {
+    wrappedParameter = wp;
+    parametersDelegate = pd;
+    this.name = name;
+    this.type = type;
+    this.genericType = genericType;
+    this.isMethod = isMethod;
+    this.getter = APPLY.bindTo(getter);
+    this.setter = setter != null ? ACCEPT.bindTo(setter) : null;
+    this.primitiveSetter = null;
+  }
+
+  /**
+   * Used by the generated {@link IParametersBinder}s to describe an annotated field.
+   *
+   * @param setter null if the field is final
+   */
+  public static Parameterized forField(WrappedParameter wp, ParametersDelegate pd, String name,
+      Class<?> type, Type genericType, Function<Object, Object> getter,
+      BiConsumer<Object, Object> setter) {
+    return new Parameterized(wp, pd, name, type, genericType, false, getter, setter);
+  }
+
+  /**
+   * Used by the generated {@link IParametersBinder}s to describe an annotated setter.
+   *
+   * @param type the type of the parameter of the setter
+   * @param getter reads the value from the matching getter or field, if any
+   */
+  public static Parameterized forMethod(WrappedParameter wp, String name, Class<?> type,
+      Type genericType, Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+    return new Parameterized(wp, null, name, type, genericType, true, getter, setter);
+  }
+
+  private static MethodHandle unreflectGetter(Field f) {
+    try {
+      return withReceiver(f, LOOKUP.unreflectGetter(f)).asType(GETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static MethodHandle unreflectSetter(Field f) {
+    try {
+      return withReceiver(f, LOOKUP.unreflectSetter(f)).asType(SETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      // e.g. a final delegate field
+      return null;
+    }
+  }
+
+  private static MethodHandle unreflectPrimitiveSetter(Field f) {
+    try {
+      return withReceiver(f, LOOKUP.unreflectSetter(f))
+          .asType(MethodType.methodType(void.class, Object.class, f.getType()));
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return the handle of a static field, taking an ignored object like the ones of the
+   * instance fields.
+   */
+  private static MethodHandle withReceiver(Field f, MethodHandle handle) {
+    return Modifier.isStatic(f.getModifiers()) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+  }
+
+  private static MethodHandle unreflectSetter(Method m) {
+    try {
+      return LOOKUP.unreflect(m).asType(SETTER_TYPE);
+    } catch (IllegalAccessException | WrongMethodTypeException e) {
+      // e.g. a static method
+      return null;
+    }
+  }
+
   /**
    * Recursive handler for describing the set of classes while
    * using the setOfClasses parameter as a collector
@@ -88,10 +221,64 @@ public class Parameterized {
     return classes;
   }
 
+  /**
+   * The parameterizeds of each class, found once and shared by all its instances. Unlike a map,
+   * a ClassValue doesn't keep the classes from being unloaded.
+   */
+  private static final ClassValue<List<Parameterized>> PARAMETERIZEDS = new ClassValue<>() {
+    @Override
+    protected List<Parameterized> computeValue(Class<?> type) {
+      IParametersBinder binder = findBinder(type);
+      return List.copyOf(binder != null ? binder.describe() : describe(type));
+    }
+  };
+
+  /**
+   * @return the binder generated for the given class, or null if there is none. Only the binder
+   * named after the class is instantiated, once per class since the result is kept along with
+   * the parameterizeds of the class in {@link #PARAMETERIZEDS}.
+   */
+  private static IParametersBinder findBinder(Class<?> type) {
+    // The name given by BinderProcessor: the binary name of the class in its package, with the
+    // '$' of the nested classes replaced
+    String packageName = type.getPackageName();
+    String simpleName = type.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+    String binderName = type.getName().substring(0, type.getName().length() - simpleName.length())
+        + simpleName.replace('$', '_') + "_JCommanderBinder";
+    try {
+      Class.forName(binderName, false, type.getClassLoader());
+    } catch (ClassNotFoundException | LinkageError e) {
+      // Most classes have no binder, don't look through the registered ones
+      return null;
+    }
+    Iterator<ServiceLoader.Provider<IParametersBinder>> providers =
+        ServiceLoader.load(IParametersBinder.class, type.getClassLoader()).stream().iterator();
+    while (true) {
+      try {
+        if (!providers.hasNext()) {
+          return null;
+        }
+        ServiceLoader.Provider<IParametersBinder> provider = providers.next();
+        if (provider.type().getName().equals(binderName)) {
+          IParametersBinder binder = provider.get();
+          if (binder.getType() == type) {
+            return binder;
+          }
+        }
+      } catch (ServiceConfigurationError e) {
+        // e.g. a binder left over from a previous build, its class is found by reflection instead
+        System.getLogger(Parameterized.class.getName())
+            .log(System.Logger.Level.WARNING, "Ignoring a parameters binder that can't be loaded", e);
+      }
+    }
+  }
+
   public static List<Parameterized> parseArg(Object arg) {
-    List<Parameterized> result = Lists.newArrayList();
+    return Lists.newArrayList(PARAMETERIZEDS.get(arg.getClass()));
+  }
 
-    Class<?> rootClass = arg.getClass();
+  private static List<Parameterized> describe(Class<?> rootClass) {
+    List<Parameterized> result = Lists.newArrayList();
 
     // get the list of types that are extended or implemented by the root class
     // and all of its parent types
@@ -175,65 +362,74 @@ public class Parameterized {
   }
 
   public Class<?> getType() {
-    if (method != null) {
-      return method.getParameterTypes()[0];
-    } else {
-      return field.getType();
-    }
+    return type;
   }
 
   public String getName() {
-    if (method != null) {
-      return method.getName();
-    } else {
-      return field.getName();
-    }
+    return name;
   }
 
   public Object get(Object object) {
-    try {
-      if (method != null) {
-        if (getter == null) {
-          setGetter(object);
+    MethodHandle handle = getter;
+    if (handle == null) {
+      if (field != null) {
+        try {
+          return field.get(object);
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+          throw new ParameterException(e);
         }
-        return getter.invoke(object);
-      } else {
-        return field.get(object);
       }
-    } catch (SecurityException | IllegalArgumentException | InvocationTargetException | IllegalAccessException e) {
-      throw new ParameterException(e);
-    } catch (NoSuchMethodException e) {
-      // Try to find a field
-      String name = method.getName();
-      String fieldName = Character.toLowerCase(name.charAt(3)) + name.substring(4);
-      Object result = null;
-      try {
-        Field field = method.getDeclaringClass().getDeclaredField(fieldName);
-        if (field != null) {
-          setFieldAccessible(field);
-          result = field.get(object);
-        }
-      } catch(NoSuchFieldException | IllegalAccessException ex) {
-        // ignore
-      }
-      return result;
+      handle = getter = findGetter(object.getClass());
+    }
+    try {
+      return (Object) handle.invokeExact(object);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new ParameterException(t);
     }
   }
 
-  private void setGetter(Object object) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+  /**
+   * @return the getter matching the setter method, the field it sets if there is no such
+   * getter, or {@link #NO_GETTER} if there is no such field either.
+   */
+  private MethodHandle findGetter(Class<?> cls) {
+    Method m = null;
     if(Boolean.class.getSimpleName().toLowerCase().equals(getType().getName())){
       // try is<fieldname> notation
       try {
-        getter = object.getClass()
-                .getMethod("is" + method.getName().substring(3));
-        // we have found a is<fieldname> getter we can return
-        return;
+        m = cls.getMethod("is" + method.getName().substring(3));
       } catch (NoSuchMethodException n){
         // if not found ignore exception and try with default get<fieldname> below
       }
     }
-    getter = object.getClass()
-            .getMethod("g" + method.getName().substring(1));
+    if (m == null) {
+      try {
+        m = cls.getMethod("g" + method.getName().substring(1));
+      } catch (NoSuchMethodException e) {
+        // Try to find a field below
+      }
+    }
+    if (m != null) {
+      try {
+        m.trySetAccessible();
+        return LOOKUP.unreflect(m).asType(GETTER_TYPE);
+      } catch (SecurityException | IllegalAccessException | WrongMethodTypeException e) {
+        throw new ParameterException(e);
+      }
+    }
+
+    // Try to find a field
+    String name = method.getName();
+    String fieldName = Character.toLowerCase(name.charAt(3)) + name.substring(4);
+    try {
+      Field field = method.getDeclaringClass().getDeclaredField(fieldName);
+      setFieldAccessible(field);
+      return LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+    } catch(NoSuchFieldException | IllegalAccessException ex) {
+      return NO_GETTER;
+    }
   }
 
   @Override
@@ -242,6 +438,7 @@ public class Parameterized {
     int result = 1;
     result = prime * result + ((field == null) ? 0 : field.hashCode());
     result = prime * result + ((method == null) ? 0 : method.hashCode());
+    result = prime * result + ((field == null && method == null) ? name.hashCode() : 0);
     return result;
   }
 
@@ -254,6 +451,10 @@ public class Parameterized {
     if (getClass() != obj.getClass())
       return false;
     Parameterized other = (Parameterized) obj;
+    if (field == null && method == null) {
+      // Created by a binder
+      return false;
+    }
     if (field == null) {
       if (other.field != null)
         return false;
@@ -270,8 +471,10 @@ public class Parameterized {
   public boolean isDynamicParameter(Field field) {
     if (method != null) {
       return method.getAnnotation(DynamicParameter.class) != null;
-    } else {
+    } else if (this.field != null) {
       return this.field.getAnnotation(DynamicParameter.class) != null;
+    } else {
+      return wrappedParameter != null && isDynamicParameter();
     }
   }
 
@@ -288,11 +491,31 @@ public class Parameterized {
     f.setAccessible(true);
   }
 
-  private static String errorMessage(Method m, Exception ex) {
+  private static String errorMessage(Method m, Throwable ex) {
     return "Could not invoke " + m + "\n    Reason: " + ex.getMessage();
   }
 
   public void set(Object object, Object value) {
+    if (setter != null) {
+      // Fail like reflection would on an argument that can't be converted to the type
+      if (value == null ? type.isPrimitive() : !type.isPrimitive() && !type.isInstance(value)) {
+        throw new ParameterException(errorMessage(method, new IllegalArgumentException(
+            "Cannot set " + type.getName() + " " + getName() + " to " + (value == null ? "null" : value.getClass().getName()))));
+      }
+      try {
+        setter.invokeExact(object, value);
+      } catch (ParameterException | Error e) {
+        // If a ParameterException was thrown, don't wrap it into another one
+        throw e;
+      } catch (Throwable t) {
+        throw new ParameterException(errorMessage(method, t), t);
+      }
+      return;
+    }
+    if (field == null && method == null) {
+      throw new ParameterException("Cannot set final field " + name);
+    }
+
     try {
       if (method != null) {
         method.invoke(object, value);
@@ -311,16 +534,62 @@ public class Parameterized {
     }
   }
 
+  /**
+   * @return true if this is a field of a primitive type that {@link #setInt}, {@link #setLong},
+   * {@link #setDouble} and {@link #setBoolean} store into without boxing the value.
+   */
+  boolean hasPrimitiveSetter() {
+    return primitiveSetter != null;
+  }
+
+  void setInt(Object object, int value) {
+    if (!setPrimitive(int.class, setter -> { setter.invokeExact(object, value); })) set(object, value);
+  }
+
+  void setLong(Object object, long value) {
+    if (!setPrimitive(long.class, setter -> { setter.invokeExact(object, value); })) set(object, value);
+  }
+
+  void setDouble(Object object, double value) {
+    if (!setPrimitive(double.class, setter -> { setter.invokeExact(object, value); })) set(object, value);
+  }
+
+  void setBoolean(Object object, boolean value) {
+    if (!setPrimitive(boolean.class, setter -> { setter.invokeExact(object, value); })) set(object, value);
+  }
+
+  /**
+   * Calls {@link MethodHandle#invokeExact} on the primitive setter with the unboxed value, in a
+   * block so that the call is typed as returning void.
+   */
+  private interface PrimitiveStore {
+    void store(MethodHandle setter) throws Throwable;
+  }
+
+  /**
+   * @return false if the value must be boxed and set with {@link #set}, as the field is not
+   * of the given primitive type or has no primitive setter.
+   */
+  private boolean setPrimitive(Class<?> primitiveType, PrimitiveStore store) {
+    if (primitiveSetter == null || type != primitiveType) {
+      return false;
+    }
+    try {
+      store.store(primitiveSetter);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new ParameterException(errorMessage(method, t), t);
+    }
+    return true;
+  }
+
   public ParametersDelegate getDelegateAnnotation() {
     return parametersDelegate;
   }
 
   public Type getGenericType() {
-    if (method != null) {
-      return method.getGenericParameterTypes()[0];
-    } else {
-      return field.getGenericType();
-    }
+    return genericType;
   }
 
   public Parameter getParameter() {
@@ -331,10 +600,10 @@ public class Parameterized {
    * @return the generic type of the collection for this field, or null if not applicable.
    */
   public Type findFieldGenericType() {
-    if (method != null) {
+    if (isMethod) {
       return null;
     } else {
-      if (field.getGenericType() instanceof ParameterizedType p) {
+      if (genericType instanceof ParameterizedType p) {
         Type cls = p.getActualTypeArguments()[0];
         if (cls instanceof Class c) {
           return c;
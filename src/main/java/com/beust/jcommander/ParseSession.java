@@ -0,0 +1,254 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import com.beust.jcommander.internal.Lists;
+import com.beust.jcommander.internal.Maps;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The state of a parse by one {@link JCommander}: the options that were assigned, the
+ * required ones still missing, the values of the main parameter, the unknown options and
+ * the command that was found. The {@link CommandSpec} is only read while parsing, so that
+ * all the per parse state lives here.
+ *
+ * The session of {@link JCommander#parse(String...)} lasts as long as its JCommander, so
+ * that this state keeps accumulating over successive parses as it always did. It also
+ * publishes the assigned options on their {@link ParameterDescription}.
+ *
+ * A session can also bind the parameters into a new instance of the class the spec was
+ * compiled from, instead of the objects the descriptions were found on: each of these
+ * objects is mapped to the matching object of the new instance, following the same
+ * delegate fields.
+ */
+final class ParseSession {
+  /** The value of an option stored in a primitive field without being boxed. */
+  private static final Object IN_FIELD = new Object();
+
+  /** True for the session owned by a JCommander, which publishes its state. */
+  private final boolean persistent;
+  /** The object bound to each object of the spec, null to use the objects of the spec. */
+  private final Map<Object, Object> bindings;
+
+  /**
+   * All the required parameterizeds, minus the ones that were assigned a value. If it's
+   * not empty at the end of the parse, some required fields did not receive a value.
+   */
+  private final Map<Parameterized, ParameterDescription> requiredFields = Maps.newHashMap();
+  private final Set<ParameterDescription> assigned = Collections.newSetFromMap(new IdentityHashMap<>());
+  /** The last value assigned to each option, passed to the {@link IParametersValidator}s. */
+  private final Map<ParameterDescription, Object> values = new IdentityHashMap<>();
+  /** The values of the array options, buffered until the end of the parse. */
+  private final Map<ParameterDescription, Object> arrayBuffers = new IdentityHashMap<>();
+
+  /** Non null if the main parameter is a List<String>. */
+  private List<Object> mainValues;
+  /** The value of the main parameter if it's not a List<String>. */
+  private Object mainValue;
+  private boolean firstTimeMainParameter = true;
+
+  /** The sessions of the sub commands, unless this session is persistent. */
+  private final Map<JCommander, ParseSession> commandSessions = new IdentityHashMap<>();
+
+  private final List<String> unknownArgs = Lists.newArrayList();
+  private String parsedCommand;
+  private String parsedAlias;
+  private boolean helpWasSpecified;
+
+  ParseSession(CommandSpec spec, boolean persistent) {
+    this.persistent = persistent;
+    this.bindings = null;
+    require(spec);
+  }
+
+  /**
+   * Create a session binding the parameters into instance instead of prototype, the object
+   * the spec was compiled from.
+   */
+  ParseSession(CommandSpec spec, Object prototype, Object instance) {
+    this.persistent = false;
+    this.bindings = new IdentityHashMap<>();
+    bindings.put(prototype, instance);
+    for (CommandSpec.Delegate delegate : spec.getDelegates()) {
+      Object object = delegate.parameterized().get(bindings.get(delegate.parent()));
+      if (object == null) {
+        throw new ParameterException("Delegate field '" + delegate.parameterized().getName()
+            + "' cannot be null.");
+      }
+      bindings.put(delegate.object(), object);
+    }
+    require(spec);
+  }
+
+  /**
+   * Add the required options of the spec to the ones still missing.
+   */
+  void require(CommandSpec spec) {
+    requiredFields.putAll(spec.getRequired());
+  }
+
+  /**
+   * @return the session in which the given sub command parses.
+   */
+  ParseSession forCommand(JCommander command) {
+    if (persistent) {
+      return command.getSession();
+    }
+    return commandSessions.computeIfAbsent(command, c -> new ParseSession(c.getSpec(), false));
+  }
+
+  /**
+   * @return the object the value of the parameter is assigned to.
+   */
+  Object target(ParameterDescription pd) {
+    return bindings != null ? bindings.get(pd.getObject()) : pd.getObject();
+  }
+
+  boolean isAssigned(ParameterDescription pd) {
+    return persistent ? pd.isAssigned() : assigned.contains(pd);
+  }
+
+  void setAssigned(ParameterDescription pd) {
+    if (persistent) {
+      pd.setAssigned(true);
+    } else {
+      assigned.add(pd);
+    }
+    requiredFields.remove(pd.getParameterized());
+  }
+
+  Object getValue(ParameterDescription pd) {
+    Object value = values.get(pd);
+    return value == IN_FIELD ? pd.getParameterized().get(target(pd)) : value;
+  }
+
+  void setValue(ParameterDescription pd, Object value) {
+    values.put(pd, value);
+  }
+
+  /**
+   * Record that the value of a primitive field was stored without boxing it, to be read back
+   * from the field only if {@link #getValue} is called.
+   */
+  void setValueInField(ParameterDescription pd) {
+    values.put(pd, IN_FIELD);
+  }
+
+  /**
+   * @return the buffer receiving the values of an array option during this parse, created
+   * on first use.
+   */
+  Object arrayBuffer(ParameterDescription pd, Function<ParameterDescription, Object> newBuffer) {
+    return arrayBuffers.computeIfAbsent(pd, newBuffer);
+  }
+
+  /**
+   * Store the buffered values of the array options into their fields, as arrays of their
+   * final size.
+   */
+  void flushArrays() {
+    arrayBuffers.forEach((pd, buffer) -> {
+      Object array = CompactListConverter.toArray(buffer);
+      pd.getParameterized().set(target(pd), array);
+      values.put(pd, array);
+    });
+    arrayBuffers.clear();
+  }
+
+  /**
+   * Mark a required option as received, without assigning it.
+   */
+  void fulfill(ParameterDescription pd) {
+    requiredFields.remove(pd.getParameterized());
+  }
+
+  Map<Parameterized, ParameterDescription> getRequiredFields() {
+    return requiredFields;
+  }
+
+  /**
+   * Prepare the main parameter to receive a value, the first value clearing the list of
+   * a List main parameter.
+   */
+  void initMainParameter(JCommander.MainParameter mainParameter) {
+    Parameterized parameterized = mainParameter.parameterized;
+    Object object = target(mainParameter.getDescription());
+
+    // If it's a List<String>, we might need to create that list and then add the value to it.
+    if (List.class.isAssignableFrom(parameterized.getType())) {
+      @SuppressWarnings("unchecked")
+      List<Object> result = (List<Object>) parameterized.get(object);
+      if (result == null) {
+        result = Lists.newArrayList();
+      }
+
+      if (firstTimeMainParameter) {
+        result.clear();
+        firstTimeMainParameter = false;
+      }
+
+      mainValues = result;
+      parameterized.set(object, result);
+    }
+  }
+
+  void addMainParameterValue(JCommander.MainParameter mainParameter, Object convertedValue) {
+    setAssigned(mainParameter.getDescription());
+    if (mainValues != null) {
+      mainValues.add(convertedValue);
+    } else if (mainValue != null) {
+      throw new ParameterException("Only one main parameter allowed but found several: "
+          + "\"" + mainValue + "\" and \"" + convertedValue + "\"");
+    } else {
+      mainValue = convertedValue;
+      mainParameter.parameterized.set(target(mainParameter.getDescription()), convertedValue);
+    }
+  }
+
+  List<String> getUnknownArgs() {
+    return unknownArgs;
+  }
+
+  String getParsedCommand() {
+    return parsedCommand;
+  }
+
+  String getParsedAlias() {
+    return parsedAlias;
+  }
+
+  void setParsedCommand(String command, String alias) {
+    parsedCommand = command;
+    parsedAlias = alias;
+  }
+
+  boolean isHelpWasSpecified() {
+    return helpWasSpecified;
+  }
+
+  void setHelpWasSpecified() {
+    helpWasSpecified = true;
+  }
+}
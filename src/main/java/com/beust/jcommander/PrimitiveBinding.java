@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.lang.reflect.Method;
+
+/**
+ * Converts and stores the value of a primitive field through the {@link IIntConverter},
+ * {@link ILongConverter}, {@link IDoubleConverter} and {@link IBooleanConverter} of the
+ * field, so that the value is never boxed. Also converts the elements of the primitive
+ * arrays and lists of {@link CompactListConverter}.
+ */
+final class PrimitiveBinding {
+
+  /**
+   * Whether the primitive method of a converter class does the same as its convert(String),
+   * i.e. convert(String) isn't overridden below the class declaring the primitive method.
+   */
+  private static final ClassValue<Boolean> USABLE = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      String name = IIntConverter.class.isAssignableFrom(type) ? "convertInt"
+          : ILongConverter.class.isAssignableFrom(type) ? "convertLong"
+          : IDoubleConverter.class.isAssignableFrom(type) ? "convertDouble"
+          : IBooleanConverter.class.isAssignableFrom(type) ? "convertBoolean"
+          : null;
+      if (name == null) return false;
+      try {
+        Method convert = type.getMethod("convert", String.class);
+        Method primitive = type.getMethod(name, String.class);
+        return convert.getDeclaringClass().isAssignableFrom(primitive.getDeclaringClass());
+      } catch (NoSuchMethodException e) {
+        return false;
+      }
+    }
+  };
+
+  private PrimitiveBinding() {
+  }
+
+  /**
+   * Convert the value and store it into the primitive field, if both the field and the
+   * converter allow it.
+   *
+   * @return false if nothing was done and the value should be converted and set as an object
+   */
+  static boolean set(Parameterized parameterized, Object object, IStringConverter<?> converter,
+      String value) {
+    if (converter == null || !parameterized.hasPrimitiveSetter() || !USABLE.get(converter.getClass())) {
+      return false;
+    }
+    Class<?> type = parameterized.getType();
+    if (type == int.class && converter instanceof IIntConverter c) {
+      parameterized.setInt(object, c.convertInt(value));
+    } else if (type == long.class && converter instanceof ILongConverter c) {
+      parameterized.setLong(object, c.convertLong(value));
+    } else if (type == double.class && converter instanceof IDoubleConverter c) {
+      parameterized.setDouble(object, c.convertDouble(value));
+    } else if (type == boolean.class && converter instanceof IBooleanConverter c) {
+      parameterized.setBoolean(object, c.convertBoolean(value));
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  static int toInt(IStringConverter<?> converter, String value) {
+    return converter instanceof IIntConverter c && USABLE.get(c.getClass())
+        ? c.convertInt(value) : ((Number) converter.convert(value)).intValue();
+  }
+
+  static long toLong(IStringConverter<?> converter, String value) {
+    return converter instanceof ILongConverter c && USABLE.get(c.getClass())
+        ? c.convertLong(value) : ((Number) converter.convert(value)).longValue();
+  }
+
+  static double toDouble(IStringConverter<?> converter, String value) {
+    return converter instanceof IDoubleConverter c && USABLE.get(c.getClass())
+        ? c.convertDouble(value) : ((Number) converter.convert(value)).doubleValue();
+  }
+}
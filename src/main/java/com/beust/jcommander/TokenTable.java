@@ -0,0 +1,260 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The command line tokens seen by one {@link JCommander} during a parse, each one
+ * classified exactly once: its kind, the option or command it resolves to and whether
+ * it names an option.
+ *
+ * Arguments are read from an {@link ArgumentBuffer} shared with the sub commands, starting
+ * at the offset where this command's arguments begin. They are split (dynamic parameters,
+ * separators) and classified in order, as the parser or a variable arity look ahead
+ * reaches them, so that the arguments following a command are left for that command to
+ * classify.
+ *
+ * Tokens are indexed from the start of this command's arguments. Tokens before the one
+ * passed to {@link #release} are dropped the next time the table needs to grow.
+ */
+class TokenTable {
+
+  enum Kind {
+    /** An option known to this command, or any option if unknown options are accepted. */
+    OPTION,
+    /** A main parameter or the value of an option. */
+    VALUE,
+    /** The name or alias of a sub command. */
+    COMMAND,
+    /** "--", after which everything goes into the main parameter. */
+    DASH_DASH,
+    /** An {@code @file} to expand. */
+    AT_FILE
+  }
+
+  /**
+   * Splits and classifies the raw command line arguments.
+   */
+  interface Classifier {
+    /**
+     * Classify the argument, adding the token(s) it splits into to the table.
+     */
+    void classify(String arg, TokenTable table);
+  }
+
+  /** The argument names an option or a command, as seen by a variable arity look ahead. */
+  private static final byte NAMED = 1;
+  /** Resolving the argument to an option or a command is ambiguous. */
+  private static final byte AMBIGUOUS = 2;
+
+  private final Classifier classifier;
+
+  /** The arguments left to classify, starting at {@link #next}. */
+  private final ArgumentBuffer source;
+  private int next;
+  /** The index in {@link #source} of the argument being classified. */
+  private int current;
+
+  /** The index of the first token kept in the arrays below. */
+  private int base;
+  /** The index following the last token classified. */
+  private int size;
+  /** The tokens before this index can be dropped. */
+  private int released;
+  /** The index in {@link #source} of the argument each token comes from. */
+  private int[] sources = new int[16];
+  private String[] raw = new String[16];
+  private String[] text = new String[16];
+  private Kind[] kinds = new Kind[16];
+  private byte[] flags = new byte[16];
+  private ParameterDescription[] descriptions = new ParameterDescription[16];
+  private JCommander[] commands = new JCommander[16];
+
+  TokenTable(ArgumentBuffer source, int start, Classifier classifier) {
+    this.source = source;
+    this.next = start;
+    this.classifier = classifier;
+  }
+
+  /**
+   * Add a token, called by the {@link Classifier}.
+   *
+   * @param raw the token as found on the command line
+   * @param text the token without surrounding blanks and quotes
+   */
+  void add(String raw, String text, Kind kind, boolean named, boolean ambiguous,
+      ParameterDescription description, JCommander command) {
+    if (size - base == kinds.length) {
+      int dropped = released - base;
+      if (dropped > kinds.length / 2) {
+        drop(dropped);
+      } else {
+        grow(kinds.length * 2);
+      }
+    }
+    int j = size - base;
+    this.raw[j] = raw;
+    this.text[j] = text;
+    kinds[j] = kind;
+    flags[j] = (byte) ((named ? NAMED : 0) | (ambiguous ? AMBIGUOUS : 0));
+    descriptions[j] = description;
+    commands[j] = command;
+    sources[j] = current;
+    size++;
+  }
+
+  private void grow(int capacity) {
+    this.raw = Arrays.copyOf(this.raw, capacity);
+    this.text = Arrays.copyOf(this.text, capacity);
+    kinds = Arrays.copyOf(kinds, capacity);
+    flags = Arrays.copyOf(flags, capacity);
+    descriptions = Arrays.copyOf(descriptions, capacity);
+    commands = Arrays.copyOf(commands, capacity);
+    sources = Arrays.copyOf(sources, capacity);
+  }
+
+  /**
+   * Shift the tokens to the start of the arrays, dropping the first n ones.
+   */
+  private void drop(int n) {
+    int length = size - base - n;
+    System.arraycopy(raw, n, raw, 0, length);
+    System.arraycopy(text, n, text, 0, length);
+    System.arraycopy(kinds, n, kinds, 0, length);
+    System.arraycopy(flags, n, flags, 0, length);
+    System.arraycopy(descriptions, n, descriptions, 0, length);
+    System.arraycopy(commands, n, commands, 0, length);
+    System.arraycopy(sources, n, sources, 0, length);
+    clear(length, kinds.length);
+    base += n;
+  }
+
+  private void clear(int from, int to) {
+    Arrays.fill(raw, from, to, null);
+    Arrays.fill(text, from, to, null);
+    Arrays.fill(descriptions, from, to, null);
+    Arrays.fill(commands, from, to, null);
+  }
+
+  /**
+   * Declare that the tokens before index i won't be read again, along with the arguments
+   * they come from.
+   */
+  void release(int i) {
+    if (i > released && i < size) {
+      released = i;
+      source.release(sources[i - base]);
+    }
+  }
+
+  /**
+   * @return true if there is a token at index i, classifying arguments up to it if needed.
+   */
+  boolean has(int i) {
+    while (size <= i && source.has(next)) {
+      current = next++;
+      classifier.classify(source.get(current), this);
+    }
+    return i < size;
+  }
+
+  String raw(int i) {
+    return raw[i - base];
+  }
+
+  String text(int i) {
+    return text[i - base];
+  }
+
+  Kind kind(int i) {
+    return kinds[i - base];
+  }
+
+  boolean isNamed(int i) {
+    return (flags[i - base] & NAMED) != 0;
+  }
+
+  boolean isAmbiguous(int i) {
+    return (flags[i - base] & AMBIGUOUS) != 0;
+  }
+
+  ParameterDescription description(int i) {
+    return descriptions[i - base];
+  }
+
+  JCommander command(int i) {
+    return commands[i - base];
+  }
+
+  /**
+   * @return a read-only view of the raw tokens. Getting its size classifies all the
+   * remaining arguments, and the released tokens can't be read anymore.
+   */
+  List<String> rawView() {
+    return new AbstractList<>() {
+      @Override
+      public String get(int i) {
+        if (i < base || !has(i)) {
+          throw new IndexOutOfBoundsException(i);
+        }
+        return raw[i - base];
+      }
+
+      @Override
+      public int size() {
+        has(Integer.MAX_VALUE);
+        return TokenTable.this.size;
+      }
+    };
+  }
+
+  ArgumentBuffer buffer() {
+    return source;
+  }
+
+  /**
+   * @return the offset in the argument buffer of the arguments following token i, which
+   * is where a sub command named by that token starts reading.
+   */
+  int sourceAfter(int i) {
+    return sources[i - base] + 1;
+  }
+
+  /**
+   * @return the {@code @file} token i comes from, or null if it comes from the command line.
+   */
+  ArgumentBuffer.Include includeOf(int i) {
+    return source.includeAt(sources[i - base]);
+  }
+
+  /**
+   * Replace the {@code @file} token at index i with the content of the file. The tokens
+   * following it are classified again.
+   */
+  void expandAtFile(int i, ArgumentBuffer.Include include, Iterator<String> fileArgs) {
+    next = sources[i - base];
+    source.replace(next, include, fileArgs);
+    clear(i - base, size - base);
+    size = i;
+  }
+}
@@ -18,6 +18,7 @@
 
 package com.beust.jcommander.converters;
 
+import com.beust.jcommander.IBooleanConverter;
 import com.beust.jcommander.ParameterException;
 
 /**
@@ -25,13 +26,19 @@ import com.beust.jcommander.ParameterException;
  * 
  * @author cbeust
  */
-public class BooleanConverter extends BaseConverter<Boolean> {
+public class BooleanConverter extends BaseConverter<Boolean> implements IBooleanConverter {
 
   public BooleanConverter(String optionName) {
     super(optionName);
   }
 
+  @Override
   public Boolean convert(String value) {
+    return convertBoolean(value);
+  }
+
+  @Override
+  public boolean convertBoolean(String value) {
     if ("false".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value)) {
       return Boolean.parseBoolean(value);
     } else {
@@ -1,10 +1,13 @@
 package com.beust.jcommander.converters;
 
-import java.util.List;
+/**
+ * Splits on commas, without handling quotes.
+ *
+ * @see QuotedCommaParameterSplitter
+ */
+public class CommaParameterSplitter extends DelimiterParameterSplitter {
 
-public class CommaParameterSplitter implements IParameterSplitter {
-
-  public List<String> split(String value) {
-    return value.isEmpty() ? List.of() : List.of(value.split(","));
+  public CommaParameterSplitter() {
+    super(',', false);
   }
 }
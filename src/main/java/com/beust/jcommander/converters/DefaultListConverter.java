@@ -3,6 +3,7 @@ package com.beust.jcommander.converters;
 import com.beust.jcommander.IStringConverter;
 import com.beust.jcommander.internal.Lists;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,9 +29,16 @@ public class DefaultListConverter<T> implements IStringConverter<List<T>> {
   @Override
   public List<T> convert(String value) {
     List<T> result = Lists.newArrayList();
-    for (String param : splitter.split(value)) {
-      result.add(converter.convert(param));
-    }
+    convert(value, result);
     return result;
   }
+
+  /**
+   * Split the value and add each converted element to the given collection.
+   * @param value the value to split
+   * @param target the collection to add the elements to
+   */
+  public void convert(String value, Collection<? super T> target) {
+    splitter.split(value, param -> target.add(converter.convert(param)));
+  }
 }
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander.converters;
+
+import com.beust.jcommander.ParameterException;
+import com.beust.jcommander.internal.Lists;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Splits a value on a delimiter character, scanning it once and passing each argument to the
+ * consumer as it's found. Like {@link String#split(String)}, empty arguments are kept except
+ * at the end of the value.
+ *
+ * With quotes enabled, delimiters between double quotes belong to the argument and a
+ * backslash escapes the following character. Quotes and escaping backslashes are removed,
+ * e.g. {@code "a,b",c\,d} is split into {@code a,b} and {@code c,d}, and an argument
+ * written {@code ""} is kept even at the end.
+ */
+public class DelimiterParameterSplitter implements IParameterSplitter {
+
+  private final char delimiter;
+  private final boolean quotes;
+
+  /**
+   * @param delimiter the character separating the arguments
+   * @param quotes true to handle double quotes and backslashes
+   */
+  public DelimiterParameterSplitter(char delimiter, boolean quotes) {
+    this.delimiter = delimiter;
+    this.quotes = quotes;
+  }
+
+  @Override
+  public List<String> split(String value) {
+    List<String> result = Lists.newArrayList();
+    split(value, result::add);
+    return result;
+  }
+
+  @Override
+  public void split(String value, Consumer<String> consumer) {
+    if (quotes && (value.indexOf('"') >= 0 || value.indexOf('\\') >= 0)) {
+      splitQuoted(value, consumer);
+      return;
+    }
+    // Empty arguments found but not passed yet, since they are dropped at the end
+    int empty = 0;
+    int start = 0;
+    while (start <= value.length()) {
+      int end = value.indexOf(delimiter, start);
+      if (end < 0) end = value.length();
+      if (end == start) {
+        empty++;
+      } else {
+        for (; empty > 0; empty--) consumer.accept("");
+        consumer.accept(value.substring(start, end));
+      }
+      start = end + 1;
+    }
+  }
+
+  private void splitQuoted(String value, Consumer<String> consumer) {
+    StringBuilder argument = new StringBuilder();
+    boolean inQuotes = false;
+    // Whether the argument had quotes, making it present even if empty
+    boolean quoted = false;
+    int empty = 0;
+    for (int i = 0; i <= value.length(); i++) {
+      char c = i < value.length() ? value.charAt(i) : delimiter;
+      if (i == value.length() && inQuotes) {
+        throw new ParameterException("Unterminated quote in " + value);
+      } else if (c == '\\' && i + 1 < value.length()) {
+        argument.append(value.charAt(++i));
+      } else if (c == '"') {
+        inQuotes = !inQuotes;
+        quoted = true;
+      } else if (c == delimiter && !inQuotes) {
+        if (argument.length() == 0 && !quoted) {
+          empty++;
+        } else {
+          for (; empty > 0; empty--) consumer.accept("");
+          consumer.accept(argument.toString());
+        }
+        argument.setLength(0);
+        quoted = false;
+      } else {
+        argument.append(c);
+      }
+    }
+  }
+}
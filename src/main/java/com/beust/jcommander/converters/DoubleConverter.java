@@ -18,6 +18,7 @@
 
 package com.beust.jcommander.converters;
 
+import com.beust.jcommander.IDoubleConverter;
 import com.beust.jcommander.ParameterException;
 
 /**
@@ -25,13 +26,19 @@ import com.beust.jcommander.ParameterException;
  *
  * @author acornejo
  */
-public class DoubleConverter extends BaseConverter<Double> {
+public class DoubleConverter extends BaseConverter<Double> implements IDoubleConverter {
 
   public DoubleConverter(String optionName) {
     super(optionName);
   }
 
+  @Override
   public Double convert(String value) {
+    return convertDouble(value);
+  }
+
+  @Override
+  public double convertDouble(String value) {
     try {
       return Double.parseDouble(value);
     } catch(NumberFormatException ex) {
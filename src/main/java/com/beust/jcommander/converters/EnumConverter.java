@@ -3,7 +3,10 @@ package com.beust.jcommander.converters;
 import com.beust.jcommander.IStringConverter;
 import com.beust.jcommander.ParameterException;
 
-import java.util.EnumSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * A converter to parse enums
@@ -12,8 +15,61 @@ import java.util.EnumSet;
  */
 public class EnumConverter<T extends Enum<T>> implements IStringConverter<T> {
 
+  /**
+   * The constants of an enum class indexed by their name and their toString(), built once per class.
+   * When several constants share a key, the first one declared wins.
+   */
+  private static final class Lookup {
+    private final Map<String, Enum<?>> exact = new HashMap<>();
+    private final Map<String, Enum<?>> folded = new HashMap<>();
+    private final String allowedValues;
+
+    private Lookup(Class<?> clazz) {
+      Enum<?>[] constants = (Enum<?>[]) clazz.getEnumConstants();
+      for (Enum<?> constant : constants) {
+        // the toString method may be overridden, causing what is printed (or what user types) is different from it's declared name
+        for (String key : new String[] { constant.name(), constant.toString() }) {
+          exact.putIfAbsent(key, constant);
+          folded.putIfAbsent(fold(key), constant);
+        }
+      }
+      allowedValues = Arrays.toString(constants);
+    }
+
+    private static String fold(String s) {
+      return s.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the first constant whose name or toString() is the value or the value in upper case.
+     */
+    private Enum<?> find(String value) {
+      Enum<?> result = exact.get(value);
+      String upper = value.toUpperCase();
+      if (! upper.equals(value)) {
+        Enum<?> other = exact.get(upper);
+        if (result == null || other != null && other.ordinal() < result.ordinal()) {
+          result = other;
+        }
+      }
+      return result;
+    }
+
+    private Enum<?> findIgnoreCase(String value) {
+      return folded.get(fold(value));
+    }
+  }
+
+  private static final ClassValue<Lookup> LOOKUPS = new ClassValue<>() {
+    @Override
+    protected Lookup computeValue(Class<?> type) {
+      return new Lookup(type);
+    }
+  };
+
   private final String optionName;
   private final Class<T> clazz;
+  private final boolean caseSensitive;
 
   /**
    * Constructs a new converter.
@@ -21,20 +77,30 @@ public class EnumConverter<T extends Enum<T>> implements IStringConverter<T> {
    * @param clazz the enum class
    */
   public EnumConverter(String optionName, Class<T> clazz) {
+    this(optionName, clazz, true);
+  }
+
+  /**
+   * Constructs a new converter.
+   * @param optionName the option name for error reporting
+   * @param clazz the enum class
+   * @param caseSensitive false to match the names and toString() of the constants ignoring case,
+   *                      true to only match them as is or in upper case
+   */
+  public EnumConverter(String optionName, Class<T> clazz, boolean caseSensitive) {
     this.optionName = optionName;
     this.clazz = clazz;
+    this.caseSensitive = caseSensitive;
   }
 
   @Override
   public T convert(String value) {
-    for (T constant : EnumSet.allOf(clazz)) {
-      // the toString method may be overridden, causing what is printed (or what user types) is different from it's declared name
-      if (constant.name().equals(value) || constant.name().equals(value.toUpperCase())
-          || constant.toString().equals(value) || constant.toString().equals(value.toUpperCase())) {
-        return constant;
-      }
+    Lookup lookup = LOOKUPS.get(clazz);
+    Enum<?> result = caseSensitive ? lookup.find(value) : lookup.findIgnoreCase(value);
+    if (result == null) {
+      throw new ParameterException("Invalid value for " + optionName + " parameter. Allowed values:" +
+              lookup.allowedValues);
     }
-    throw new ParameterException("Invalid value for " + optionName + " parameter. Allowed values:" +
-            EnumSet.allOf(clazz));
+    return clazz.cast(result);
   }
 }
@@ -1,6 +1,7 @@
 package com.beust.jcommander.converters;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Convert a string representing several parameters (e.g. "a,b,c" or "d/e/f") into a
@@ -8,4 +9,14 @@ import java.util.List;
  */
 public interface IParameterSplitter {
   List<String> split(String value);
+
+  /**
+   * Split the value, passing each argument to the consumer in order. The default implementation
+   * goes through {@link #split(String)}, override it to avoid building the list.
+   */
+  default void split(String value, Consumer<String> consumer) {
+    for (String argument : split(value)) {
+      consumer.accept(argument);
+    }
+  }
 }
@@ -20,19 +20,30 @@ package com.beust.jcommander.converters;
 
 import com.beust.jcommander.ParameterException;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
 import java.util.Date;
 
 /**
- * Converts a String to a Date.
+ * Converts a String to a Date, at midnight in the default time zone.
  * TODO Modify to work with all valid ISO 8601 date formats (currently only works with yyyy-MM-dd).
  *
+ * Like {@link java.text.SimpleDateFormat} in its default lenient mode, out of range months
+ * and days roll over (2023-02-30 is March 2nd) and text following the date is ignored.
+ * The converter holds no mutable state and can be used by several threads at once.
+ *
  * @author Angus Smithson
  */
 public class ISO8601DateConverter extends BaseConverter<Date> {
 
-  private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
+  private static final String PATTERN = "yyyy-MM-dd";
+
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("y-M-d")
+      .withResolverStyle(ResolverStyle.LENIENT);
 
   public ISO8601DateConverter(String optionName) {
     super(optionName);
@@ -40,9 +51,36 @@ public class ISO8601DateConverter extends BaseConverter<Date> {
 
   public Date convert(String value) {
     try {
-      return DATE_FORMAT.parse(value);
-    } catch (ParseException pe) {
-      throw new ParameterException(getErrorString(value, "an ISO-8601 formatted date (%s)".formatted(DATE_FORMAT.toPattern())));
+      LocalDate date = isDateShape(value) ? lenientDate(value) : DATE_FORMAT.parse(value, new ParsePosition(0))
+          .query(LocalDate::from);
+      return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    } catch (DateTimeException | ArithmeticException e) {
+      throw new ParameterException(getErrorString(value, "an ISO-8601 formatted date (%s)".formatted(PATTERN)));
+    }
+  }
+
+  /**
+   * @return true if the value is exactly 4 digits, a dash, 2 digits, a dash and 2 digits.
+   */
+  private static boolean isDateShape(String value) {
+    if (value.length() != 10 || value.charAt(4) != '-' || value.charAt(7) != '-') return false;
+    for (int i = 0; i < 10; i++) {
+      if (i != 4 && i != 7 && (value.charAt(i) < '0' || value.charAt(i) > '9')) return false;
+    }
+    return true;
+  }
+
+  private static LocalDate lenientDate(String value) {
+    return LocalDate.of(digits(value, 0, 4), 1, 1)
+        .plusMonths(digits(value, 5, 7) - 1)
+        .plusDays(digits(value, 8, 10) - 1);
+  }
+
+  private static int digits(String value, int start, int end) {
+    int result = 0;
+    for (int i = start; i < end; i++) {
+      result = result * 10 + value.charAt(i) - '0';
     }
+    return result;
   }
 }
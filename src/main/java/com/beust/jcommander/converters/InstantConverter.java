@@ -20,11 +20,24 @@ public final class InstantConverter extends JavaTimeConverter<Instant> {
 
   @Override
   protected Instant parse(String value, DateTimeFormatter formatter) {
-    try {
-      long ms = Long.parseLong(value);
-      return Instant.ofEpochMilli(ms);
-    } catch (NumberFormatException e) {
-      return formatter.parse(value, Instant::from);
+    if (isNumber(value)) {
+      try {
+        long ms = Long.parseLong(value);
+        return Instant.ofEpochMilli(ms);
+      } catch (NumberFormatException e) {
+        // Too large for milliseconds
+      }
     }
+    return formatter.parse(value, Instant::from);
+  }
+
+  private static boolean isNumber(String value) {
+    int start = value.startsWith("-") || value.startsWith("+") ? 1 : 0;
+    if (value.length() == start) return false;
+    for (int i = start; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') return false;
+    }
+    return true;
   }
 }
@@ -18,6 +18,7 @@
 
 package com.beust.jcommander.converters;
 
+import com.beust.jcommander.IIntConverter;
 import com.beust.jcommander.ParameterException;
 
 /**
@@ -25,13 +26,19 @@ import com.beust.jcommander.ParameterException;
  * 
  * @author cbeust
  */
-public class IntegerConverter extends BaseConverter<Integer> {
+public class IntegerConverter extends BaseConverter<Integer> implements IIntConverter {
 
   public IntegerConverter(String optionName) {
     super(optionName);
   }
 
+  @Override
   public Integer convert(String value) {
+    return convertInt(value);
+  }
+
+  @Override
+  public int convertInt(String value) {
     try {
       return Integer.parseInt(value);
     } catch(NumberFormatException ex) {
@@ -2,10 +2,11 @@ package com.beust.jcommander.converters;
 
 import com.beust.jcommander.ParameterException;
 
+import java.text.ParsePosition;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
-import java.util.Objects;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -16,6 +17,8 @@ import java.util.Set;
 public abstract class JavaTimeConverter<T extends TemporalAccessor> extends BaseConverter<T> {
 
   private final Class<T> toClass;
+  /** The supported formats, in the iteration order of {@link #supportedFormats()} */
+  private volatile List<DateTimeFormatter> formats;
 
   /**
    * Inheritor constructors should have only 1 parameter - optionName.
@@ -28,17 +31,51 @@ public abstract class JavaTimeConverter<T extends TemporalAccessor> extends Base
     this.toClass = toClass;
   }
 
+  /**
+   * Parse the value with the first format whose shape it matches, without throwing. If
+   * there is a single format, or if no format matches, fall back to trying each format.
+   */
   @Override
   public final T convert(String value) {
-    return supportedFormats().stream()
-            .map(formatter -> tryConvert(value, formatter))
-            .filter(Objects::nonNull)
-            .findFirst()
-            .orElseThrow(() -> new ParameterException(errorMessage(value)));
+    List<DateTimeFormatter> formats = formats();
+    if (formats.size() > 1) {
+      for (DateTimeFormatter formatter : formats) {
+        if (matches(value, formatter)) {
+          T result = tryConvert(value, formatter);
+          if (result != null) return result;
+        }
+      }
+    }
+    for (DateTimeFormatter formatter : formats) {
+      if (formats.size() == 1 || !matches(value, formatter)) {
+        T result = tryConvert(value, formatter);
+        if (result != null) return result;
+      }
+    }
+    throw new ParameterException(errorMessage(value));
+  }
+
+  private List<DateTimeFormatter> formats() {
+    List<DateTimeFormatter> result = formats;
+    if (result == null) {
+      formats = result = List.copyOf(supportedFormats());
+    }
+    return result;
+  }
+
+  /**
+   * @return true if the whole value can be parsed by the formatter, leaving aside whether the
+   * fields it contains make a valid date or time.
+   */
+  private static boolean matches(String value, DateTimeFormatter formatter) {
+    ParsePosition position = new ParsePosition(0);
+    return formatter.parseUnresolved(value, position) != null
+            && position.getErrorIndex() < 0 && position.getIndex() == value.length();
   }
 
   /**
-   * Supported formats for this type, e.g. {@code HH:mm:ss}
+   * Supported formats for this type, e.g. {@code HH:mm:ss}. When a value matches several
+   * formats, the first one in the iteration order of the set is used.
    *
    * @return a set of supported formats
    */
@@ -2,6 +2,9 @@ package com.beust.jcommander.converters;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -9,13 +12,16 @@ import java.util.Set;
  */
 public class LocalDateConverter extends JavaTimeConverter<LocalDate> {
 
+  private static final Set<DateTimeFormatter> FORMATS = Collections.unmodifiableSet(new LinkedHashSet<>(
+          List.of(DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.ofPattern("dd-MM-yyyy"))));
+
   public LocalDateConverter(String optionName) {
     super(optionName, LocalDate.class);
   }
 
   @Override
   protected Set<DateTimeFormatter> supportedFormats() {
-    return Set.of(DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+    return FORMATS;
   }
 
   @Override
@@ -18,6 +18,7 @@
 
 package com.beust.jcommander.converters;
 
+import com.beust.jcommander.ILongConverter;
 import com.beust.jcommander.ParameterException;
 
 /**
@@ -25,13 +26,19 @@ import com.beust.jcommander.ParameterException;
  * 
  * @author cbeust
  */
-public class LongConverter extends BaseConverter<Long> {
+public class LongConverter extends BaseConverter<Long> implements ILongConverter {
 
   public LongConverter(String optionName) {
     super(optionName);
   }
 
+  @Override
   public Long convert(String value) {
+    return convertLong(value);
+  }
+
+  @Override
+  public long convertLong(String value) {
     try {
       return Long.parseLong(value);
     } catch(NumberFormatException ex) {
@@ -65,6 +65,8 @@ public class DefaultConverterFactory implements IStringConverterFactory {
   static {
     classConverters = Maps.newHashMap();
     classConverters.put(String.class, StringConverter.class);
+    // The int, long, double and boolean converters also implement IIntConverter, ILongConverter,
+    // IDoubleConverter and IBooleanConverter, so primitive fields are set without boxing
     classConverters.put(Integer.class, IntegerConverter.class);
     classConverters.put(int.class, IntegerConverter.class);
     classConverters.put(Long.class, LongConverter.class);
@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander.internal;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A character trie mapping names to values. Exact, prefix and longest-prefix look ups
+ * all run in time proportional to the length of the string being looked up and don't
+ * allocate.
+ *
+ * When the trie is not case sensitive, names and look ups are folded character by
+ * character, the same way {@link String#equalsIgnoreCase(String)} compares them.
+ * Several names folding to the same key are all counted, but only the value of the
+ * first one is kept.
+ *
+ * @param <V> the type of the values
+ */
+public class PrefixTrie<V> {
+
+  private static final char[] NO_LABELS = new char[0];
+
+  private static final class Node<V> {
+    /** Sorted labels of the children, only the first childCount entries are used. */
+    private char[] labels = NO_LABELS;
+    private Node<V>[] children;
+    private int childCount;
+
+    /** The names ending at this node, null if no name ends here. */
+    private String[] names;
+    private V value;
+
+    /** How many names end at this node or below it. */
+    private int count;
+    /** The value of the first name added at this node or below it. */
+    private V first;
+
+    private Node<V> child(char c) {
+      int i = Arrays.binarySearch(labels, 0, childCount, c);
+      return i >= 0 ? children[i] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<V> getOrAddChild(char c) {
+      int i = Arrays.binarySearch(labels, 0, childCount, c);
+      if (i >= 0) {
+        return children[i];
+      }
+      i = -(i + 1);
+      if (childCount == labels.length) {
+        int capacity = Math.max(2, childCount * 2);
+        labels = Arrays.copyOf(labels, capacity);
+        children = children == null ? (Node<V>[]) new Node<?>[capacity] : Arrays.copyOf(children, capacity);
+      }
+      System.arraycopy(labels, i, labels, i + 1, childCount - i);
+      System.arraycopy(children, i, children, i + 1, childCount - i);
+      Node<V> result = new Node<>();
+      labels[i] = c;
+      children[i] = result;
+      childCount++;
+      return result;
+    }
+  }
+
+  private final boolean caseSensitive;
+  private final Node<V> root = new Node<>();
+
+  public PrefixTrie(boolean caseSensitive) {
+    this.caseSensitive = caseSensitive;
+  }
+
+  public boolean isCaseSensitive() {
+    return caseSensitive;
+  }
+
+  private char fold(char c) {
+    return caseSensitive ? c : Character.toLowerCase(Character.toUpperCase(c));
+  }
+
+  /**
+   * Add a name to this trie. Adding the same name twice keeps the first value.
+   */
+  public void put(String name, V value) {
+    Node<V> node = root;
+    for (int i = 0; i < name.length(); i++) {
+      node = node.getOrAddChild(fold(name.charAt(i)));
+    }
+    if (node.names != null) {
+      for (String n : node.names) {
+        if (n.equals(name)) return;
+      }
+      node.names = Arrays.copyOf(node.names, node.names.length + 1);
+      node.names[node.names.length - 1] = name;
+    } else {
+      node.names = new String[] { name };
+      node.value = value;
+    }
+
+    // Second pass to update the counters now that we know the name is new
+    node = root;
+    for (int i = 0; ; i++) {
+      if (node.count++ == 0) node.first = value;
+      if (i == name.length()) break;
+      node = node.child(fold(name.charAt(i)));
+    }
+  }
+
+  private Node<V> find(String prefix) {
+    Node<V> node = root;
+    for (int i = 0; i < prefix.length() && node != null; i++) {
+      node = node.child(fold(prefix.charAt(i)));
+    }
+    return node;
+  }
+
+  /**
+   * @return the value of the given name, or null if it was never added.
+   */
+  public V get(String name) {
+    Node<V> node = find(name);
+    return node != null ? node.value : null;
+  }
+
+  /**
+   * @return how many names start with the given prefix, including the prefix itself.
+   */
+  public int countPrefixedBy(String prefix) {
+    Node<V> node = find(prefix);
+    return node != null ? node.count : 0;
+  }
+
+  /**
+   * @return the value of the only name starting with the given prefix, or null if there
+   * is no such name or more than one.
+   */
+  public V findUniquePrefixedBy(String prefix) {
+    Node<V> node = find(prefix);
+    return node != null && node.count == 1 ? node.first : null;
+  }
+
+  /**
+   * @return all the names starting with the given prefix, sorted by their folded form.
+   * Unlike the other look ups, this one allocates and is meant for error reporting.
+   */
+  public List<String> namesPrefixedBy(String prefix) {
+    List<String> result = Lists.newArrayList();
+    Node<V> node = find(prefix);
+    if (node != null) collectNames(node, result);
+    return result;
+  }
+
+  private static <V> void collectNames(Node<V> node, List<String> result) {
+    if (node.names != null) result.addAll(List.of(node.names));
+    for (int i = 0; i < node.childCount; i++) {
+      collectNames(node.children[i], result);
+    }
+  }
+
+  /**
+   * @return the value of the longest name that is a prefix of the given string, or null.
+   */
+  public V findLongestPrefixOf(String s) {
+    return findLongestPrefixOf(s, s.length());
+  }
+
+  /**
+   * @return the value of the longest name of at most maxLength characters that is a prefix
+   * of the given string, or null.
+   */
+  public V findLongestPrefixOf(String s, int maxLength) {
+    V result = null;
+    Node<V> node = root;
+    int length = Math.min(s.length(), maxLength);
+    for (int i = 0; ; i++) {
+      if (node.names != null) result = node.value;
+      if (i >= length) break;
+      node = node.child(fold(s.charAt(i)));
+      if (node == null) break;
+    }
+    return result;
+  }
+
+  public boolean isEmpty() {
+    return root.count == 0;
+  }
+}
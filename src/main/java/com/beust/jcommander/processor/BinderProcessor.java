@@ -0,0 +1,614 @@
+/**
+ * Copyright (C) 2010 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander.processor;
+
+import com.beust.jcommander.IParametersBinder;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates an {@link IParametersBinder} for each class with parameters, so that JCommander
+ * finds them without scanning the class tree and reading its annotations at run time.
+ *
+ * The processor is not registered as a service and must be enabled explicitly, e.g. with
+ * {@code javac -processor com.beust.jcommander.processor.BinderProcessor}.
+ *
+ * Binders read and write the fields and call the setters directly when these are accessible
+ * from the package of the class, and through method and var handles otherwise. Classes
+ * whose parameters can't be bound this way (e.g. a final parameter, a member of a class that
+ * is not accessible) get no binder, and JCommander falls back to reflection for them.
+ *
+ * The binders are listed in {@code META-INF/services/com.beust.jcommander.IParametersBinder}
+ * when the compilation ends, which only lists the classes compiled together. Modules must
+ * declare them with {@code provides com.beust.jcommander.IParametersBinder with ...}.
+ */
+@SupportedAnnotationTypes({
+    BinderProcessor.PARAMETER, BinderProcessor.DYNAMIC_PARAMETER,
+    BinderProcessor.PARAMETERS_DELEGATE, BinderProcessor.PARAMETERS })
+public class BinderProcessor extends AbstractProcessor {
+
+  static final String PARAMETER = "com.beust.jcommander.Parameter";
+  static final String DYNAMIC_PARAMETER = "com.beust.jcommander.DynamicParameter";
+  static final String PARAMETERS_DELEGATE = "com.beust.jcommander.ParametersDelegate";
+  static final String PARAMETERS = "com.beust.jcommander.Parameters";
+
+  /**
+   * Appended to the name of a class, '$' replaced with '_', to name its binder. Parameterized
+   * looks binders up by this name.
+   */
+  static final String SUFFIX = "_JCommanderBinder";
+
+  /**
+   * Why no binder can be generated for a class.
+   */
+  private static class CannotBindException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    CannotBindException(String message) {
+      super(message);
+    }
+  }
+
+  private Elements elements;
+  private Types types;
+  private Filer filer;
+  private Messager messager;
+
+  /** The binders generated so far, listed as services at the end. */
+  private final List<String> binders = new ArrayList<>();
+
+  @Override
+  public synchronized void init(ProcessingEnvironment env) {
+    super.init(env);
+    elements = env.getElementUtils();
+    types = env.getTypeUtils();
+    filer = env.getFiler();
+    messager = env.getMessager();
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+    if (round.processingOver()) {
+      writeServices();
+    } else {
+      // Not only the annotated classes: their subclasses need a binder too
+      for (TypeElement type : ElementFilter.typesIn(round.getRootElements())) {
+        visit(type);
+      }
+    }
+    return false;
+  }
+
+  private void visit(TypeElement type) {
+    if (type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)
+        && hasParameters(type)) {
+      generate(type);
+    }
+    for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+      visit(nested);
+    }
+  }
+
+  private boolean hasParameters(TypeElement type) {
+    if (annotation(type, PARAMETERS) != null) {
+      return true;
+    }
+    for (TypeElement cls : classTree(type)) {
+      for (Element member : cls.getEnclosedElements()) {
+        // @ParametersDelegate only applies to fields
+        if (annotation(member, PARAMETER) != null || annotation(member, DYNAMIC_PARAMETER) != null
+            || member.getKind() == ElementKind.FIELD && annotation(member, PARAMETERS_DELEGATE) != null) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the class, its super classes and interfaces, in the order Parameterized
+   * describes them.
+   */
+  private Set<TypeElement> classTree(TypeElement type) {
+    Set<TypeElement> result = new LinkedHashSet<>();
+    classTree(type, result);
+    return result;
+  }
+
+  private void classTree(TypeElement type, Set<TypeElement> result) {
+    if (type == null || type.getQualifiedName().contentEquals("java.lang.Object")
+        || !result.add(type)) {
+      return;
+    }
+    classTree(asTypeElement(type.getSuperclass()), result);
+    for (TypeMirror i : type.getInterfaces()) {
+      classTree(asTypeElement(i), result);
+    }
+  }
+
+  private static TypeElement asTypeElement(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) type).asElement() : null;
+  }
+
+  private static AnnotationMirror annotation(Element element, String name) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) {
+        return mirror;
+      }
+    }
+    return null;
+  }
+
+  private void generate(TypeElement type) {
+    PackageElement pkg = elements.getPackageOf(type);
+    String packageName = pkg.getQualifiedName().toString();
+    String binaryName = elements.getBinaryName(type).toString();
+    String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+        .replace('$', '_') + SUFFIX;
+    String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    try {
+      String source = new BinderWriter(type, pkg).write(packageName, simpleName);
+      try (Writer writer = filer.createSourceFile(name, type).openWriter()) {
+        writer.write(source);
+      }
+      binders.add(name);
+    } catch (CannotBindException e) {
+      messager.printMessage(Diagnostic.Kind.NOTE,
+          "No binder generated for " + type.getQualifiedName() + ": " + e.getMessage(), type);
+    } catch (IOException e) {
+      messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + name + ": " + e.getMessage(), type);
+    }
+  }
+
+  private void writeServices() {
+    if (binders.isEmpty()) {
+      return;
+    }
+    String path = "META-INF/services/" + IParametersBinder.class.getName();
+    try {
+      FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", path);
+      try (Writer writer = file.openWriter()) {
+        for (String binder : binders) {
+          writer.write(binder + "\n");
+        }
+      }
+    } catch (IOException e) {
+      messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + path + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Writes the binder of one class.
+   */
+  private class BinderWriter {
+    private final TypeElement type;
+    private final PackageElement pkg;
+    /** The declarations of the handles used by the accessors. */
+    private final StringBuilder handles = new StringBuilder();
+    private final Map<VariableElement, String> varHandles = new LinkedHashMap<>();
+    private int handleCount;
+    private boolean invokesHandles;
+
+    BinderWriter(TypeElement type, PackageElement pkg) {
+      this.type = type;
+      this.pkg = pkg;
+    }
+
+    String write(String packageName, String simpleName) throws CannotBindException {
+      if (!isAccessible(type)) {
+        throw new CannotBindException("the class is not accessible from its package");
+      }
+
+      List<String> parameterizeds = new ArrayList<>();
+      Map<String, String> methods = new LinkedHashMap<>();
+      for (TypeElement cls : classTree(type)) {
+        for (VariableElement field : ElementFilter.fieldsIn(cls.getEnclosedElements())) {
+          String parameterized = field(cls, field);
+          if (parameterized != null) {
+            parameterizeds.add(parameterized);
+          }
+        }
+        // Like Parameterized, keep the last method found with a given name
+        for (ExecutableElement method : ElementFilter.methodsIn(cls.getEnclosedElements())) {
+          String parameterized = method(cls, method);
+          if (parameterized != null) {
+            methods.put(method.getSimpleName().toString(), parameterized);
+          }
+        }
+      }
+      parameterizeds.addAll(methods.values());
+
+      StringBuilder sb = new StringBuilder();
+      if (!packageName.isEmpty()) {
+        sb.append("package ").append(packageName).append(";\n\n");
+      }
+      sb.append("/**\n * Generated by ").append(BinderProcessor.class.getName()).append(", do not edit.\n */\n");
+      sb.append("public final class ").append(simpleName).append(" implements com.beust.jcommander.IParametersBinder {\n\n");
+      sb.append("  @java.lang.Override\n");
+      sb.append("  public java.lang.Class<?> getType() {\n");
+      sb.append("    return ").append(type.getQualifiedName()).append(".class;\n");
+      sb.append("  }\n\n");
+      sb.append("  @java.lang.Override\n");
+      sb.append("  @java.lang.SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+      sb.append("  public java.util.List<com.beust.jcommander.Parameterized> describe() {\n");
+      String indent = "    ";
+      if (handleCount > 0) {
+        sb.append("    try {\n");
+        indent = "      ";
+        sb.append(handles.toString().indent(indent.length()));
+      }
+      sb.append(indent).append("java.util.List<com.beust.jcommander.Parameterized> result = new java.util.ArrayList<>();\n");
+      for (String parameterized : parameterizeds) {
+        sb.append(("result.add(" + parameterized + ");").indent(indent.length()));
+      }
+      sb.append(indent).append("return result;\n");
+      if (handleCount > 0) {
+        sb.append("    } catch (java.lang.ReflectiveOperationException e) {\n");
+        sb.append("      throw new com.beust.jcommander.ParameterException(e);\n");
+        sb.append("    }\n");
+      }
+      sb.append("  }\n");
+      if (handleCount > 0) {
+        sb.append("\n");
+        sb.append("  private static java.lang.invoke.MethodHandles.Lookup privateLookup(java.lang.Class<?> type)\n");
+        sb.append("      throws java.lang.IllegalAccessException {\n");
+        sb.append("    return java.lang.invoke.MethodHandles.privateLookupIn(type, java.lang.invoke.MethodHandles.lookup());\n");
+        sb.append("  }\n");
+      }
+      if (invokesHandles) {
+        sb.append("\n");
+        sb.append("  private static void invoke(java.lang.invoke.MethodHandle handle, java.lang.Object... arguments) {\n");
+        sb.append("    try {\n");
+        sb.append("      handle.invokeWithArguments(arguments);\n");
+        sb.append("    } catch (java.lang.RuntimeException | java.lang.Error e) {\n");
+        sb.append("      throw e;\n");
+        sb.append("    } catch (java.lang.Throwable t) {\n");
+        sb.append("      throw new com.beust.jcommander.ParameterException(t);\n");
+        sb.append("    }\n");
+        sb.append("  }\n");
+      }
+      sb.append("}\n");
+      return sb.toString();
+    }
+
+    /**
+     * @return the code creating the Parameterized of the field, or null if it's not annotated.
+     */
+    private String field(TypeElement cls, VariableElement field) throws CannotBindException {
+      AnnotationMirror parameter = annotation(field, PARAMETER);
+      AnnotationMirror dynamicParameter = annotation(field, DYNAMIC_PARAMETER);
+      AnnotationMirror delegate = annotation(field, PARAMETERS_DELEGATE);
+      if (parameter == null && dynamicParameter == null && delegate == null) {
+        return null;
+      }
+      boolean isFinal = field.getModifiers().contains(Modifier.FINAL);
+      if (isFinal && delegate == null) {
+        throw new CannotBindException("final field " + field.getSimpleName());
+      }
+
+      String wrappedParameter = wrappedParameter(parameter, dynamicParameter);
+      String parametersDelegate = wrappedParameter != null ? "null" : newAnnotation(delegate);
+      String getter = fieldGetter(cls, field);
+      String setter;
+      boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+      String cast = "(" + typeName(field.asType()) + ") value";
+      if (isFinal) {
+        setter = "null";
+      } else if (isAccessible(field)) {
+        setter = "(object, value) -> " + receiver(cls, isStatic) + "." + field.getSimpleName() + " = " + cast;
+      } else {
+        String handle = varHandle(cls, field);
+        setter = "(object, value) -> " + handle + ".set(" + (isStatic ? "" : "(" + typeName(cls.asType()) + ") object, ") + cast + ")";
+      }
+      return "com.beust.jcommander.Parameterized.forField(" + (wrappedParameter != null ? wrappedParameter : "null") + ", "
+          + parametersDelegate + ", \"" + field.getSimpleName() + "\", " + classLiteral(field.asType()) + ", "
+          + genericType(field.asType()) + ",\n    " + getter + ",\n    " + setter + ")";
+    }
+
+    /**
+     * @return the code creating the Parameterized of the setter, or null if it's not annotated.
+     */
+    private String method(TypeElement cls, ExecutableElement method) throws CannotBindException {
+      AnnotationMirror parameter = annotation(method, PARAMETER);
+      AnnotationMirror dynamicParameter = annotation(method, DYNAMIC_PARAMETER);
+      if (annotation(method, PARAMETERS_DELEGATE) != null) {
+        // Not compiled since @ParametersDelegate only applies to fields, but leave it to reflection
+        throw new CannotBindException("delegate method " + method.getSimpleName() + " is not supported");
+      }
+      if (parameter == null && dynamicParameter == null) {
+        return null;
+      }
+      if (method.getParameters().size() != 1) {
+        throw new CannotBindException("method " + method.getSimpleName() + " doesn't have exactly one parameter");
+      }
+
+      TypeMirror parameterType = method.getParameters().get(0).asType();
+      boolean isStatic = method.getModifiers().contains(Modifier.STATIC);
+      String cast = "(" + typeName(parameterType) + ") value";
+      String setter;
+      if (isAccessible(method)) {
+        setter = "(object, value) -> " + receiver(cls, isStatic) + "." + method.getSimpleName() + "(" + cast + ")";
+      } else {
+        String handle = newHandle("java.lang.invoke.MethodHandle", "privateLookup(" + classLiteral(cls.asType()) + ")."
+            + (isStatic ? "findStatic(" : "findVirtual(") + classLiteral(cls.asType()) + ", \"" + method.getSimpleName()
+            + "\", java.lang.invoke.MethodType.methodType(" + classLiteral(method.getReturnType()) + ", "
+            + classLiteral(parameterType) + "))");
+        invokesHandles = true;
+        setter = "(object, value) -> invoke(" + handle + (isStatic ? "" : ", object") + ", value)";
+      }
+      return "com.beust.jcommander.Parameterized.forMethod(" + wrappedParameter(parameter, dynamicParameter)
+          + ", \"" + method.getSimpleName() + "\", " + classLiteral(parameterType) + ", " + genericType(parameterType)
+          + ",\n    " + methodGetter(cls, method, parameterType) + ",\n    " + setter + ")";
+    }
+
+    private String wrappedParameter(AnnotationMirror parameter, AnnotationMirror dynamicParameter)
+        throws CannotBindException {
+      if (parameter != null) {
+        return "new com.beust.jcommander.WrappedParameter(" + newAnnotation(parameter) + ")";
+      } else if (dynamicParameter != null) {
+        return "new com.beust.jcommander.WrappedParameter(" + newAnnotation(dynamicParameter) + ")";
+      } else {
+        return null;
+      }
+    }
+
+    private String fieldGetter(TypeElement cls, VariableElement field) throws CannotBindException {
+      boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+      if (isAccessible(field)) {
+        return "object -> " + receiver(cls, isStatic) + "." + field.getSimpleName();
+      }
+      String handle = varHandle(cls, field);
+      return "object -> " + handle + ".get(" + (isStatic ? "" : "(" + typeName(cls.asType()) + ") object") + ")";
+    }
+
+    /**
+     * Like Parameterized at run time, read the value of a setter from its public getter,
+     * or else from the field named after it.
+     */
+    private String methodGetter(TypeElement cls, ExecutableElement setter, TypeMirror parameterType)
+        throws CannotBindException {
+      String name = setter.getSimpleName().toString();
+      List<String> getterNames = new ArrayList<>();
+      if (parameterType.getKind() == TypeKind.BOOLEAN) {
+        getterNames.add("is" + name.substring(3));
+      }
+      getterNames.add("g" + name.substring(1));
+      List<ExecutableElement> publicMethods = ElementFilter.methodsIn(elements.getAllMembers(type)).stream()
+          .filter(m -> m.getModifiers().contains(Modifier.PUBLIC) && m.getParameters().isEmpty())
+          .collect(Collectors.toList());
+      for (String getterName : getterNames) {
+        for (ExecutableElement getter : publicMethods) {
+          if (getter.getSimpleName().contentEquals(getterName)) {
+            String call = receiver(type, getter.getModifiers().contains(Modifier.STATIC)) + "." + getterName + "()";
+            return getter.getReturnType().getKind() == TypeKind.VOID
+                ? "object -> { " + call + "; return null; }"
+                : "object -> " + call;
+          }
+        }
+      }
+
+      if (name.length() > 3) {
+        String fieldName = Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        for (VariableElement field : ElementFilter.fieldsIn(cls.getEnclosedElements())) {
+          if (field.getSimpleName().contentEquals(fieldName)) {
+            return fieldGetter(cls, field);
+          }
+        }
+      }
+      return "object -> null";
+    }
+
+    /**
+     * @return the expression to access a member of cls on the object
+     */
+    private String receiver(TypeElement cls, boolean isStatic) {
+      return isStatic ? cls.getQualifiedName().toString() : "((" + typeName(cls.asType()) + ") object)";
+    }
+
+    private String varHandle(TypeElement cls, VariableElement field) throws CannotBindException {
+      String handle = varHandles.get(field);
+      if (handle != null) {
+        return handle;
+      }
+      boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+      handle = newHandle("java.lang.invoke.VarHandle", "privateLookup(" + classLiteral(cls.asType()) + ")."
+          + (isStatic ? "findStaticVarHandle(" : "findVarHandle(") + classLiteral(cls.asType()) + ", \""
+          + field.getSimpleName() + "\", " + classLiteral(field.asType()) + ")");
+      varHandles.put(field, handle);
+      return handle;
+    }
+
+    /**
+     * Declare a handle, returning its name.
+     */
+    private String newHandle(String handleType, String initializer) {
+      String name = "handle" + handleCount++;
+      handles.append(handleType).append(' ').append(name).append(" = ").append(initializer).append(";\n");
+      return name;
+    }
+
+    /**
+     * @return the code creating an instance of the annotation, with the same values.
+     */
+    private String newAnnotation(AnnotationMirror mirror) throws CannotBindException {
+      String annotationType = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+      StringBuilder sb = new StringBuilder("new ").append(annotationType).append("() {\n");
+      sb.append("  @java.lang.Override\n");
+      sb.append("  public java.lang.Class<? extends java.lang.annotation.Annotation> annotationType() {\n");
+      sb.append("    return ").append(annotationType).append(".class;\n");
+      sb.append("  }\n");
+      for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+          : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+        ExecutableElement member = entry.getKey();
+        sb.append("  @java.lang.Override\n");
+        sb.append("  public ").append(member.getReturnType()).append(' ').append(member.getSimpleName()).append("() {\n");
+        sb.append("    return ").append(value(member.getReturnType(), entry.getValue())).append(";\n");
+        sb.append("  }\n");
+      }
+      return sb.append("}").toString();
+    }
+
+    private String value(TypeMirror type, AnnotationValue annotationValue) throws CannotBindException {
+      Object value = annotationValue.getValue();
+      if (value instanceof List<?> list) {
+        TypeMirror componentType = ((ArrayType) type).getComponentType();
+        List<String> values = new ArrayList<>();
+        for (Object item : list) {
+          values.add(value(componentType, (AnnotationValue) item));
+        }
+        return "new " + typeName(componentType) + "[] {" + String.join(", ", values) + "}";
+      } else if (value instanceof TypeMirror t) {
+        return classLiteral(t);
+      } else if (value instanceof VariableElement constant) {
+        return typeName(constant.asType()) + "." + constant.getSimpleName();
+      } else if (value instanceof AnnotationMirror) {
+        throw new CannotBindException("nested annotations are not supported");
+      } else {
+        return elements.getConstantExpression(value);
+      }
+    }
+
+    private String classLiteral(TypeMirror type) throws CannotBindException {
+      if (!isAccessible(type)) {
+        throw new CannotBindException(type + " is not accessible from " + pkg.getQualifiedName());
+      }
+      return typeName(type) + ".class";
+    }
+
+    /**
+     * @return the code creating the generic type, or the erased class if it has no type
+     * arguments or refers to type variables, which reflection gives as TypeVariables.
+     */
+    private String genericType(TypeMirror type) throws CannotBindException {
+      if (type.getKind() != TypeKind.DECLARED || ((DeclaredType) type).getTypeArguments().isEmpty()
+          || hasTypeVariable(type)) {
+        return classLiteral(type);
+      }
+      StringBuilder sb = new StringBuilder("com.beust.jcommander.IParametersBinder.parameterized(")
+          .append(classLiteral(type));
+      for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+        sb.append(", ");
+        if (argument instanceof WildcardType w) {
+          sb.append("com.beust.jcommander.IParametersBinder.wildcard(new java.lang.reflect.Type[] {")
+              .append(w.getExtendsBound() != null ? genericType(w.getExtendsBound()) : "")
+              .append("}, new java.lang.reflect.Type[] {")
+              .append(w.getSuperBound() != null ? genericType(w.getSuperBound()) : "")
+              .append("})");
+        } else {
+          sb.append(genericType(argument));
+        }
+      }
+      return sb.append(")").toString();
+    }
+
+    private boolean hasTypeVariable(TypeMirror type) {
+      return switch (type.getKind()) {
+        case TYPEVAR -> true;
+        case ARRAY -> hasTypeVariable(((ArrayType) type).getComponentType());
+        case WILDCARD -> {
+          WildcardType w = (WildcardType) type;
+          yield (w.getExtendsBound() != null && hasTypeVariable(w.getExtendsBound()))
+              || (w.getSuperBound() != null && hasTypeVariable(w.getSuperBound()));
+        }
+        case DECLARED -> ((DeclaredType) type).getTypeArguments().stream().anyMatch(this::hasTypeVariable);
+        default -> false;
+      };
+    }
+
+    /**
+     * @return the canonical name of the erasure of the type
+     */
+    private String typeName(TypeMirror type) {
+      return switch (type.getKind()) {
+        case DECLARED -> ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        case ARRAY -> typeName(((ArrayType) type).getComponentType()) + "[]";
+        case TYPEVAR -> typeName(types.erasure(type));
+        default -> type.toString();
+      };
+    }
+
+    private boolean isAccessible(TypeMirror type) {
+      return switch (type.getKind()) {
+        case DECLARED -> isAccessible(((DeclaredType) type).asElement());
+        case ARRAY -> isAccessible(((ArrayType) type).getComponentType());
+        case TYPEVAR -> isAccessible(types.erasure(type));
+        case ERROR -> false;
+        default -> true;
+      };
+    }
+
+    /**
+     * @return true if the binder, in the same package as the class it binds, can refer to the
+     * element and to the classes enclosing it.
+     */
+    private boolean isAccessible(Element element) {
+      for (Element e = element; e != null && e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+        Set<Modifier> modifiers = e.getModifiers();
+        boolean accessible = modifiers.contains(Modifier.PUBLIC)
+            || (!modifiers.contains(Modifier.PRIVATE) && elements.getPackageOf(e).equals(pkg));
+        // Interface members are implicitly public
+        if (!accessible && !(e.getEnclosingElement() != null && e.getEnclosingElement().getKind().isInterface()
+            && !modifiers.contains(Modifier.PRIVATE))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
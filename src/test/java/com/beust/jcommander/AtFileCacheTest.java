@@ -0,0 +1,91 @@
+package com.beust.jcommander;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class AtFileCacheTest {
+  private final List<Path> reads = new ArrayList<>();
+  private final Function<Path, List<String>> reader = path -> {
+    reads.add(path);
+    try {
+      return Files.readAllLines(path);
+    } catch (IOException e) {
+      throw new ParameterException(e);
+    }
+  };
+
+  @BeforeMethod
+  public void clearReads() {
+    reads.clear();
+  }
+
+  private static Path file(String... lines) throws IOException {
+    Path result = Files.createTempFile("JCommander", null).toRealPath();
+    result.toFile().deleteOnExit();
+    Files.write(result, List.of(lines));
+    return result;
+  }
+
+  public void readsOnce() throws IOException {
+    Path f = file("a", "b");
+    AtFileCache cache = new AtFileCache(100);
+    Assert.assertEquals(cache.get(f, StandardCharsets.UTF_8, reader), List.of("a", "b"));
+    Assert.assertEquals(cache.get(f, StandardCharsets.UTF_8, reader), List.of("a", "b"));
+    Assert.assertEquals(reads, List.of(f));
+    Assert.assertEquals(cache.size(), 2);
+  }
+
+  public void readsModifiedFilesAgain() throws IOException {
+    Path f = file("a", "b");
+    AtFileCache cache = new AtFileCache(100);
+    cache.get(f, StandardCharsets.UTF_8, reader);
+    FileTime lastModified = Files.getLastModifiedTime(f);
+    Files.write(f, List.of("c", "d"));
+    // Same size, so the new content is only seen through the last modified time
+    Files.setLastModifiedTime(f, FileTime.fromMillis(lastModified.toMillis() + 2000));
+    Assert.assertEquals(cache.get(f, StandardCharsets.UTF_8, reader), List.of("c", "d"));
+    Assert.assertEquals(reads.size(), 2);
+    Assert.assertEquals(cache.size(), 2);
+  }
+
+  public void evictsLeastRecentlyUsed() throws IOException {
+    Path f1 = file("a", "b");
+    Path f2 = file("c", "d");
+    Path f3 = file("e");
+    AtFileCache cache = new AtFileCache(4);
+    cache.get(f1, StandardCharsets.UTF_8, reader);
+    cache.get(f2, StandardCharsets.UTF_8, reader);
+    cache.get(f1, StandardCharsets.UTF_8, reader);
+    cache.get(f3, StandardCharsets.UTF_8, reader);
+    Assert.assertEquals(cache.size(), 3);
+    cache.get(f1, StandardCharsets.UTF_8, reader);
+    cache.get(f2, StandardCharsets.UTF_8, reader);
+    Assert.assertEquals(reads, List.of(f1, f2, f3, f2));
+  }
+
+  public void sharedBetweenParses() throws IOException {
+    class Params {
+      @Parameter
+      List<String> files = new ArrayList<>();
+    }
+    Path f = file("a", "b");
+    AtFileCache cache = new AtFileCache(100);
+    for (int i = 0; i < 2; i++) {
+      Params p = new Params();
+      JCommander.newBuilder().addObject(p).atFileCache(cache).build().parse("@" + f, "c");
+      Assert.assertEquals(p.files, List.of("a", "b", "c"));
+    }
+    Assert.assertEquals(cache.size(), 2);
+  }
+}
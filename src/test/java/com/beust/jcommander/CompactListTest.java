@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class CompactListTest {
+
+  public static class Args {
+    @Parameter(names = "-ids")
+    int[] ids;
+    @Parameter(names = "-sizes")
+    long[] sizes;
+    @Parameter(names = "-weights")
+    double[] weights;
+    @Parameter(names = "-names")
+    String[] names = { "default" };
+    @Parameter(names = "-shards", variableArity = true)
+    IntList shards;
+    @Parameter(names = "-offsets")
+    LongList offsets;
+    @Parameter(names = "-ratios")
+    DoubleList ratios;
+  }
+
+  public void arraysReceiveAllTheValues() {
+    Args args = new Args();
+    JCommander.newBuilder().addObject(args).build()
+        .parse("-ids", "1,2", "-ids", "3", "-sizes", "4000000000", "-weights", "0.5,1.5", "-names", "a,b");
+    Assert.assertEquals(args.ids, new int[] { 1, 2, 3 });
+    Assert.assertEquals(args.sizes, new long[] { 4000000000L });
+    Assert.assertEquals(args.weights, new double[] { 0.5, 1.5 });
+    Assert.assertEquals(args.names, new String[] { "a", "b" });
+  }
+
+  public void defaultArrayIsKeptAndShown() {
+    Args args = new Args();
+    JCommander jc = JCommander.newBuilder().addObject(args).build();
+    jc.parse("-ids", "1");
+    Assert.assertEquals(args.names, new String[] { "default" });
+
+    StringBuilder out = new StringBuilder();
+    jc.getUsageFormatter().usage(out);
+    Assert.assertTrue(out.toString().contains("Default: [default]"), out.toString());
+  }
+
+  public void addValueStoresTheArray() {
+    Args args = new Args();
+    JCommander jc = JCommander.newBuilder().addObject(args).build();
+    jc.parse();
+    ParameterDescription ids = jc.getParameters().stream()
+        .filter(pd -> pd.getLongestName().equals("-ids")).findFirst().get();
+    ids.addValue("1,2");
+    Assert.assertEquals(args.ids, new int[] { 1, 2 });
+    ids.addValue("3");
+    Assert.assertEquals(args.ids, new int[] { 1, 2, 3 });
+  }
+
+  public void compactListsReceiveAllTheValues() {
+    Args args = new Args();
+    JCommander.newBuilder().addObject(args).build()
+        .parse("-shards", "1", "2", "3", "-offsets", "5,6", "-ratios", "0.25");
+    Assert.assertEquals(args.shards, List.of(1, 2, 3));
+    Assert.assertEquals(args.shards.getInt(2), 3);
+    Assert.assertEquals(args.offsets.toLongArray(), new long[] { 5, 6 });
+    Assert.assertEquals(args.ratios, List.of(0.25));
+  }
+
+  @Test(expectedExceptions = ParameterException.class)
+  public void invalidElementIsReported() {
+    JCommander.newBuilder().addObject(new Args()).build().parse("-ids", "1,x");
+  }
+
+  public static class HexConverter implements IIntConverter {
+    @Override
+    public int convertInt(String value) {
+      return Integer.parseInt(value, 16);
+    }
+  }
+
+  public void elementsUseTheConverterOfTheirType() {
+    class Arg {
+      @Parameter(names = "-masks", required = true)
+      int[] masks;
+    }
+    Arg arg = new Arg();
+    JCommander.newBuilder().addObject(arg)
+        .addConverterFactory(type -> type == int.class ? HexConverter.class : null)
+        .build().parse("-masks", "ff,10");
+    Assert.assertEquals(arg.masks, new int[] { 255, 16 });
+  }
+
+  public static class HostAndPortConverter implements IStringConverter<String[]> {
+    @Override
+    public String[] convert(String value) {
+      return value.split(":");
+    }
+  }
+
+  public void converterOfTheFieldConvertsTheWholeArray() {
+    class Arg {
+      @Parameter(names = "-hp", converter = HostAndPortConverter.class)
+      String[] hostPort;
+    }
+    Arg arg = new Arg();
+    JCommander.newBuilder().addObject(arg).build().parse("-hp", "host:80");
+    Assert.assertEquals(arg.hostPort, new String[] { "host", "80" });
+  }
+
+  public static class RecordingValidator implements IValueValidator<int[]> {
+    static final List<String> VALUES = new ArrayList<>();
+
+    @Override
+    public void validate(String name, int[] value) {
+      VALUES.add(Arrays.toString(value));
+    }
+  }
+
+  public void valueValidatorsReceiveArrays() {
+    class Arg {
+      @Parameter(names = "-a", validateValueWith = RecordingValidator.class)
+      int[] a;
+    }
+    RecordingValidator.VALUES.clear();
+    Arg arg = new Arg();
+    JCommander.newBuilder().addObject(arg).build().parse("-a", "1,2", "-a", "3");
+    Assert.assertEquals(arg.a, new int[] { 1, 2, 3 });
+    // Each value, then all the values received so far, like for a list
+    Assert.assertEquals(RecordingValidator.VALUES, List.of("[1, 2]", "[1, 2]", "[3]", "[1, 2, 3]"));
+  }
+
+  public void intListIsAList() {
+    IntList list = new IntList(1);
+    for (int i = 0; i < 100; i++) {
+      list.addInt(i);
+    }
+    list.add(0, -1);
+    list.remove(100);
+    list.set(1, 42);
+    list.trimToSize();
+    Assert.assertEquals(list.size(), 100);
+    Assert.assertEquals(list.getInt(0), -1);
+    Assert.assertEquals(list.get(1), Integer.valueOf(42));
+    Assert.assertEquals(list.getInt(99), 98);
+  }
+}
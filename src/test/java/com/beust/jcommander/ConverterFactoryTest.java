@@ -28,6 +28,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Test the converter factory feature.
@@ -119,5 +120,40 @@ public class ConverterFactoryTest {
         jc.parse("-verbose", "42");
         Assert.assertEquals(a.verbose.intValue(), 142);
     }
-}
 
+    private static IStringConverterInstanceFactory countingFactory(AtomicInteger count) {
+        return (parameter, forType, optionName) -> {
+            if (!HostPort.class.equals(forType)) return null;
+            count.incrementAndGet();
+            return new HostPortConverter();
+        };
+    }
+
+    @Test
+    public void converterIsCreatedOncePerParameter() {
+        AtomicInteger count = new AtomicInteger();
+        ArgsMainParameter1 a = new ArgsMainParameter1();
+        JCommander jc = JCommander.newBuilder()
+                .addObject(a)
+                .addConverterInstanceFactory(countingFactory(count))
+                .build();
+        jc.parse("a.com:10", "b.com:20", "c.com:30");
+        jc.parse("d.com:40");
+        Assert.assertEquals(a.getHostPorts().getLast().host, "d.com");
+        Assert.assertEquals(count.get(), 1);
+    }
+
+    @Test
+    public void converterIsCreatedPerValueWhenNotCached() {
+        AtomicInteger count = new AtomicInteger();
+        ArgsMainParameter1 a = new ArgsMainParameter1();
+        JCommander jc = JCommander.newBuilder()
+                .addObject(a)
+                .addConverterInstanceFactory(countingFactory(count))
+                .cacheConverters(false)
+                .build();
+        jc.parse("a.com:10", "b.com:20", "c.com:30");
+        Assert.assertEquals(a.getHostPorts().size(), 3);
+        Assert.assertEquals(count.get(), 3);
+    }
+}
@@ -0,0 +1,53 @@
+package com.beust.jcommander;
+
+import com.beust.jcommander.internal.Maps;
+
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class FuzzyMapTest {
+  private static Map<StringKey, Integer> commands() {
+    Map<StringKey, Integer> result = Maps.newLinkedHashMap();
+    result.put(new StringKey("commit"), 1);
+    result.put(new StringKey("config"), 2);
+    result.put(new StringKey("Add"), 3);
+    return result;
+  }
+
+  public void exactLookup() {
+    FuzzyMap<Integer> map = new FuzzyMap<>(commands(), true);
+    Assert.assertEquals(map.find(new StringKey("config"), false), Integer.valueOf(2));
+    Assert.assertNull(map.find(new StringKey("conf"), false));
+    Assert.assertNull(map.find(new StringKey("add"), false));
+  }
+
+  public void caseInsensitiveLookup() {
+    FuzzyMap<Integer> map = new FuzzyMap<>(commands(), false);
+    Assert.assertEquals(map.find(new StringKey("ADD"), false), Integer.valueOf(3));
+    Assert.assertEquals(map.find(new StringKey("COMM"), true), Integer.valueOf(1));
+  }
+
+  public void abbreviatedLookup() {
+    FuzzyMap<Integer> map = new FuzzyMap<>(commands(), true);
+    Assert.assertEquals(map.find(new StringKey("com"), true), Integer.valueOf(1));
+    Assert.assertNull(map.find(new StringKey("x"), true));
+  }
+
+  @Test(expectedExceptions = ParameterException.class,
+      expectedExceptionsMessageRegExp = "Ambiguous option: co matches \\[commit, config\\]")
+  public void ambiguousAbbreviation() {
+    new FuzzyMap<>(commands(), true).find(new StringKey("co"), true);
+  }
+
+  public void staticLookupMatchesCompiledLookup() {
+    Map<StringKey, Integer> commands = commands();
+    FuzzyMap<Integer> map = new FuzzyMap<>(commands, false);
+    for (String name : new String[] { "commit", "COMMIT", "a", "conf", "x" }) {
+      Assert.assertEquals(FuzzyMap.findInMap(commands, new StringKey(name), false, true),
+          map.find(new StringKey(name), true), name);
+    }
+  }
+}
@@ -641,6 +641,82 @@ public class JCommanderTest {
         Assert.assertEquals("\u9731", args1.groups);
     }
 
+    public void atFileCanContainSeparators() throws IOException {
+        final var f = Files.createTempFile("JCommander", null);
+        f.toFile().deleteOnExit();
+        Files.write(f, List.of("-args=a=b,b=c"));
+        ArgsEquals a = new ArgsEquals();
+        JCommander.newBuilder().addObject(a).build().parse("@" + f.toAbsolutePath());
+        Assert.assertEquals(a.args, "a=b,b=c");
+    }
+
+    public void manyAtFilesAmongManyArguments() throws IOException {
+        class Params {
+            @Parameter
+            List<String> files = new ArrayList<>();
+        }
+        List<String> args = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final var f = Files.createTempFile("JCommander", null);
+            f.toFile().deleteOnExit();
+            List<String> lines = new ArrayList<>();
+            for (int j = 0; j < 100; j++) {
+                lines.add("f" + i + "_" + j);
+            }
+            Files.write(f, lines);
+            args.add("@" + f.toAbsolutePath());
+            expected.addAll(lines);
+            args.add("a" + i);
+            expected.add("a" + i);
+        }
+        Params p = new Params();
+        JCommander.newBuilder().addObject(p).build().parse(args.toArray(new String[0]));
+        Assert.assertEquals(p.files, expected);
+    }
+
+    private static Path atFile(String... lines) throws IOException {
+        final var f = Files.createTempFile("JCommander", null);
+        f.toFile().deleteOnExit();
+        Files.write(f, List.of(lines));
+        return f;
+    }
+
+    public void nestedAtFiles() throws IOException {
+        class Params {
+            @Parameter
+            List<String> files = new ArrayList<>();
+        }
+        Path defaults = atFile("d1", "d2");
+        Path first = atFile("a1", "@" + defaults, "a2");
+        Path second = atFile("@" + defaults, "b1");
+        Params p = new Params();
+        JCommander.newBuilder().addObject(p).build().parse("@" + first, "x", "@" + second);
+        Assert.assertEquals(p.files, List.of("a1", "d1", "d2", "a2", "x", "d1", "d2", "b1"));
+    }
+
+    @Test(expectedExceptions = ParameterException.class,
+        expectedExceptionsMessageRegExp = "Cyclic @file include: .*")
+    public void cyclicAtFiles() throws IOException {
+        Path first = atFile("a");
+        Path second = atFile("@" + first);
+        Files.write(first, List.of("@" + second));
+        new JCommander(new Object()).parse("@" + first);
+    }
+
+    @Test(expectedExceptions = ParameterException.class,
+        expectedExceptionsMessageRegExp = ".*nested more than 2 levels deep")
+    public void atFilesTooDeep() throws IOException {
+        class Params {
+            @Parameter
+            List<String> files = new ArrayList<>();
+        }
+        Path third = atFile("c");
+        Path second = atFile("@" + third);
+        Path first = atFile("@" + second);
+        JCommander.newBuilder().addObject(new Params()).atFileMaxDepth(2).build().parse("@" + first);
+    }
+
     public void handleEqualSigns() {
         ArgsEquals a = new ArgsEquals();
         JCommander jc = new JCommander(a);
@@ -781,6 +857,26 @@ public class JCommanderTest {
         Assert.assertEquals(al.ints.get(1).intValue(), 42);
     }
 
+    @Test
+    public void testDefaultListConverterAppendsToTheSameList() {
+        ArgsList al = new ArgsList();
+        JCommander j = new JCommander(al);
+        j.parse("-ints", "41,42", "-ints", "43");
+        Assert.assertEquals(al.ints, List.of(41, 42, 43));
+    }
+
+    @Test
+    public void testDefaultListConverterLeavesTheListUnchangedOnInvalidElement() {
+        ArgsList al = new ArgsList();
+        JCommander j = new JCommander(al);
+        try {
+            j.parse("-ints", "41", "-ints", "42,x");
+            Assert.fail("Expected a ParameterException");
+        } catch (ParameterException expected) {
+            Assert.assertEquals(al.ints, List.of(41));
+        }
+    }
+
     @Test
     public void testDefaultListConverterWithCustomConverterAndSplitter() {
         ArgsList al = new ArgsList();
@@ -1180,6 +1276,42 @@ public class JCommanderTest {
         Assert.assertTrue(V2.validateCalled);
     }
 
+    static class CountingValidator implements IParameterValidator2 {
+        static int instances = 0;
+        static int validations = 0;
+
+        CountingValidator() {
+            instances++;
+        }
+
+        @Override
+        public void validate(String name, String value) throws ParameterException {
+            validations++;
+        }
+
+        @Override
+        public void validate(String name, String value, ParameterDescription pd)
+                throws ParameterException {
+            validations++;
+        }
+    }
+
+    public void validatorIsInstantiatedOncePerParameter() {
+        class Arg {
+            @Parameter(names = "-h", validateWith = CountingValidator.class)
+            List<String> hosts;
+        }
+        Arg args = new Arg();
+        CountingValidator.instances = 0;
+        CountingValidator.validations = 0;
+        JCommander jc = JCommander.newBuilder().addObject(args).build();
+        jc.parse("-h", "a", "-h", "b", "-h", "c");
+        jc.parse("-h", "d");
+
+        Assert.assertEquals(CountingValidator.instances, 1);
+        Assert.assertEquals(CountingValidator.validations, 8);
+    }
+
     public void partialValidation() {
         class Arg {
             @Parameter(names = {"-h", "--host"})
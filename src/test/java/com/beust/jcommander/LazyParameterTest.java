@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class LazyParameterTest {
+
+  public static class CountingConverter implements IStringConverter<Integer> {
+    static int conversions = 0;
+
+    @Override
+    public Integer convert(String value) {
+      conversions++;
+      return Integer.parseInt(value);
+    }
+  }
+
+  public static class Positive implements IValueValidator<Integer> {
+    @Override
+    public void validate(String name, Integer value) throws ParameterException {
+      if (value <= 0) throw new ParameterException(name + " must be positive");
+    }
+  }
+
+  public static class Args {
+    @Parameter(names = "-count", converter = CountingConverter.class, validateValueWith = Positive.class)
+    Supplier<Integer> count;
+    @Parameter(names = "-path")
+    Supplier<Path> path;
+    @Parameter(names = "-name")
+    Supplier<String> name = () -> "default";
+    @Parameter(names = "-tags")
+    Supplier<List<String>> tags;
+    @Parameter(names = "-help", help = true)
+    boolean help;
+  }
+
+  public void valueIsConvertedOnFirstAccessOnly() {
+    CountingConverter.conversions = 0;
+    Args args = new Args();
+    JCommander.newBuilder().addObject(args).build().parse("-count", "3", "-path", "a/b");
+    Assert.assertEquals(CountingConverter.conversions, 0);
+
+    Assert.assertEquals(args.count.get(), Integer.valueOf(3));
+    Assert.assertEquals(args.count.get(), Integer.valueOf(3));
+    Assert.assertEquals(CountingConverter.conversions, 1);
+    Assert.assertEquals(args.path.get(), Path.of("a/b"));
+    Assert.assertEquals(args.name.get(), "default");
+  }
+
+  public void valuesAreNeverConvertedWhenNotRead() {
+    CountingConverter.conversions = 0;
+    Args args = new Args();
+    JCommander.newBuilder().addObject(args).build().parse("-count", "-1", "-help");
+    Assert.assertTrue(args.help);
+    Assert.assertEquals(CountingConverter.conversions, 0);
+  }
+
+  public void invalidValuesFailOnAccess() {
+    Args args = new Args();
+    JCommander.newBuilder().addObject(args).build().parse("-count", "-1");
+    Assert.assertThrows(ParameterException.class, () -> args.count.get());
+    Assert.assertThrows(ParameterException.class, () -> args.count.get());
+  }
+
+  public void genericValuesUseTheRawType() {
+    Args args = new Args();
+    JCommander.newBuilder().addObject(args).build().parse("-tags", "a,b");
+    Assert.assertEquals(args.tags.get(), List.of("a", "b"));
+  }
+}
@@ -0,0 +1,81 @@
+package com.beust.jcommander;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class MappedAtFileReaderTest {
+  private static List<String> read(String content, int chunkSize) throws IOException {
+    Path file = Files.createTempFile("JCommander", null);
+    file.toFile().deleteOnExit();
+    Files.writeString(file, content, StandardCharsets.UTF_8);
+    List<String> result = new ArrayList<>();
+    new MappedAtFileReader(file, StandardCharsets.UTF_8, chunkSize).forEachRemaining(result::add);
+    return result;
+  }
+
+  public void splitsLikeReadFile() throws IOException {
+    String content = "-a\r\n\r\n# comment\n  # indented comment\r-b value with spaces\n\nlast";
+    List<String> expected = List.of("-a", "-b", "value with spaces", "last");
+    Assert.assertEquals(read(content, MappedAtFileReader.CHUNK_SIZE), expected);
+  }
+
+  public void charactersAcrossChunks() throws IOException {
+    StringBuilder content = new StringBuilder();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 3000; i++) {
+      String line = "été-€" + i;
+      content.append(line).append(i % 2 == 0 ? "\r\n" : "\n");
+      expected.add(line);
+    }
+    // An odd chunk size cuts multi-byte characters and "\r\n" in two
+    Assert.assertEquals(read(content.toString(), 7), expected);
+    Assert.assertEquals(read(content.toString(), 8191), expected);
+  }
+
+  public void emptyFile() throws IOException {
+    Assert.assertEquals(read("", 16), List.of());
+  }
+
+  @Test(expectedExceptions = ParameterException.class)
+  public void malformedInput() throws IOException {
+    Path file = Files.createTempFile("JCommander", null);
+    file.toFile().deleteOnExit();
+    Files.write(file, new byte[] { 'a', (byte) 0xff, '\n' });
+    new MappedAtFileReader(file, StandardCharsets.UTF_8).hasNext();
+  }
+
+  public void streamedAtFile() throws IOException {
+    class Params {
+      @Parameter
+      List<String> files = new ArrayList<>();
+
+      @Parameter(names = "-v")
+      boolean verbose;
+    }
+    Path file = Files.createTempFile("JCommander", null);
+    file.toFile().deleteOnExit();
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      lines.add("input" + i);
+    }
+    lines.add(5000, "-v");
+    Files.write(file, lines);
+
+    Params p = new Params();
+    JCommander.newBuilder().addObject(p).streamAtFiles(true).build()
+        .parse("first", "@" + file.toAbsolutePath(), "last");
+    Assert.assertTrue(p.verbose);
+    Assert.assertEquals(p.files.size(), 10002);
+    Assert.assertEquals(p.files.get(0), "first");
+    Assert.assertEquals(p.files.get(5001), "input5000");
+    Assert.assertEquals(p.files.get(10001), "last");
+  }
+}
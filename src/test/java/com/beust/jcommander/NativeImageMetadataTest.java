@@ -0,0 +1,78 @@
+package com.beust.jcommander;
+
+import com.beust.jcommander.converters.CommaParameterSplitter;
+import com.beust.jcommander.converters.DoubleConverter;
+import com.beust.jcommander.converters.LongConverter;
+import com.beust.jcommander.converters.PathConverter;
+import com.beust.jcommander.validators.PositiveInteger;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class NativeImageMetadataTest {
+  public enum Mode { FAST, SLOW }
+
+  public static class Base {
+    @Parameter(names = "-mode")
+    Mode mode;
+  }
+
+  public static class Delegate {
+    @Parameter(names = "-port", validateWith = PositiveInteger.class)
+    int port;
+  }
+
+  public static class Args extends Base {
+    @Parameter(names = "-host", converter = HostPortConverter.class)
+    HostPort host;
+
+    @Parameter
+    List<Path> files;
+
+    @Parameter(names = "-sizes")
+    long[] sizes;
+
+    @Parameter(names = "-ratios")
+    DoubleList ratios;
+
+    @ParametersDelegate
+    Delegate delegate = new Delegate();
+  }
+
+  @Parameters(commandNames = "run", resourceBundle = "MessageBundle")
+  public static class RunCommand {
+    @Parameter(names = "-count")
+    Integer count;
+  }
+
+  public void listsReflectedClassesAndBundles() {
+    JCommander jc = JCommander.newBuilder().addObject(new Args()).addCommand(new RunCommand()).build();
+    NativeImageMetadata metadata = new NativeImageMetadata(jc);
+
+    String reflect = metadata.getReflectConfig();
+    for (Class<?> cls : List.of(Args.class, Delegate.class, RunCommand.class)) {
+      Assert.assertTrue(reflect.contains("\"name\": \"" + cls.getName() + "\",\n"
+          + "    \"allDeclaredConstructors\": true,\n"
+          + "    \"allDeclaredFields\": true"), cls + " in " + reflect);
+    }
+    for (Class<?> cls : List.of(HostPortConverter.class, PathConverter.class, PositiveInteger.class,
+        CommaParameterSplitter.class, com.beust.jcommander.converters.IntegerConverter.class,
+        LongConverter.class, DoubleConverter.class)) {
+      Assert.assertTrue(reflect.contains("\"name\": \"" + cls.getName() + "\",\n"
+          + "    \"allDeclaredConstructors\": true\n"), cls + " in " + reflect);
+    }
+    // Scanned but not instantiated
+    for (Class<?> cls : List.of(Base.class, Mode.class)) {
+      Assert.assertTrue(reflect.contains("\"name\": \"" + cls.getName() + "\",\n"
+          + "    \"allDeclaredFields\": true"), cls + " in " + reflect);
+    }
+    Assert.assertFalse(reflect.contains("NoConverter"), reflect);
+
+    Assert.assertEquals(metadata.getResourceConfig(),
+        "{\n  \"bundles\": [\n    { \"name\": \"MessageBundle\" }\n  ]\n}\n");
+  }
+}
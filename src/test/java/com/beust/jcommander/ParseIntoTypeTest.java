@@ -0,0 +1,79 @@
+package com.beust.jcommander;
+
+import com.beust.jcommander.args.Args1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class ParseIntoTypeTest {
+  public static class Delegate {
+    @Parameter(names = "-port")
+    public int port = 80;
+  }
+
+  public static class Args {
+    @Parameter
+    public List<String> files = new ArrayList<>();
+
+    @Parameter(names = "-host", required = true)
+    public String host;
+
+    @ParametersDelegate
+    public Delegate delegate = new Delegate();
+  }
+
+  public void freshInstances() {
+    JCommander jc = new JCommander();
+    Args first = jc.parse(Args.class, "-host", "a", "-port", "8080", "f1");
+    Args second = jc.parse(Args.class, "-host", "b", "f2", "f3");
+
+    Assert.assertEquals(first.host, "a");
+    Assert.assertEquals(first.delegate.port, 8080);
+    Assert.assertEquals(first.files, List.of("f1"));
+    Assert.assertEquals(second.host, "b");
+    Assert.assertEquals(second.delegate.port, 80);
+    Assert.assertEquals(second.files, List.of("f2", "f3"));
+  }
+
+  public void optionsApply() {
+    JCommander jc = JCommander.newBuilder().allowAbbreviatedOptions(true).build();
+    Args1 args = jc.parse(Args1.class, "-verb", "2", "a");
+    Assert.assertEquals(args.verbose.intValue(), 2);
+    Assert.assertEquals(args.parameters, List.of("a"));
+  }
+
+  @Test(expectedExceptions = ParameterException.class,
+      expectedExceptionsMessageRegExp = "The following option is required: \\[-host\\]")
+  public void eachParseIsValidated() {
+    JCommander jc = new JCommander();
+    jc.parse(Args.class, "-host", "a");
+    jc.parse(Args.class, "-port", "1");
+  }
+
+  public void concurrentParses() throws Exception {
+    JCommander jc = new JCommander();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Args>> futures = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        String n = String.valueOf(i);
+        futures.add(executor.submit(() -> jc.parse(Args.class, "-host", n, "-port", n, n)));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        Args args = futures.get(i).get();
+        Assert.assertEquals(args.host, String.valueOf(i));
+        Assert.assertEquals(args.delegate.port, i);
+        Assert.assertEquals(args.files, List.of(String.valueOf(i)));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.beust.jcommander;
+
+import com.beust.jcommander.args.Args1;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class ParseSessionTest {
+  public void sessionsKeepTheirOwnState() {
+    JCommander jc = new JCommander(new Args1());
+    CommandSpec spec = jc.getSpec();
+    ParameterDescription log = spec.getDescriptions().get(new StringKey("-log"));
+
+    ParseSession first = new ParseSession(spec, false);
+    ParseSession second = new ParseSession(spec, false);
+    log.addValue(first, "-log", "2", false, true, 0);
+
+    Assert.assertTrue(first.isAssigned(log));
+    Assert.assertTrue(first.getRequiredFields().isEmpty());
+    Assert.assertEquals(first.getValue(log), 2);
+    Assert.assertFalse(second.isAssigned(log));
+    Assert.assertEquals(second.getRequiredFields().size(), 1);
+    // Only the session of parse(String...) publishes its state on the descriptions
+    Assert.assertFalse(log.isAssigned());
+  }
+
+  public void parseSessionPublishes() {
+    JCommander jc = new JCommander(new Args1());
+    jc.parse("-log", "2");
+    Assert.assertTrue(jc.getSpec().getDescriptions().get(new StringKey("-log")).isAssigned());
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void compiledSpecIsImmutable() {
+    JCommander jc = new JCommander(new Args1());
+    jc.getSpec().addParametersValidator(parameters -> {});
+  }
+}
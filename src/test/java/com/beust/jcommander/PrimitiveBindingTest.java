@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander;
+
+import com.beust.jcommander.converters.IntegerConverter;
+
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class PrimitiveBindingTest {
+
+  public static class Args {
+    @Parameter(names = "-i")
+    int i;
+    @Parameter(names = "-l")
+    long l;
+    @Parameter(names = "-d")
+    double d;
+    @Parameter(names = "-b", arity = 1)
+    boolean b;
+    @Parameter(names = "-f")
+    boolean flag;
+  }
+
+  public void primitiveFieldsAreSet() {
+    Args args = new Args();
+    JCommander.newBuilder().addObject(args).build()
+        .parse("-i", "42", "-l", "4200000000", "-d", "1.5", "-b", "true", "-f");
+    Assert.assertEquals(args.i, 42);
+    Assert.assertEquals(args.l, 4200000000L);
+    Assert.assertEquals(args.d, 1.5);
+    Assert.assertTrue(args.b);
+    Assert.assertTrue(args.flag);
+  }
+
+  @Test(expectedExceptions = ParameterException.class)
+  public void invalidValueIsReported() {
+    JCommander.newBuilder().addObject(new Args()).build().parse("-i", "abc");
+  }
+
+  public static class TwiceConverter implements IIntConverter {
+    static int boxed = 0;
+
+    @Override
+    public int convertInt(String value) {
+      return Integer.parseInt(value) * 2;
+    }
+
+    @Override
+    public Integer convert(String value) {
+      boxed++;
+      return convertInt(value);
+    }
+  }
+
+  public void customPrimitiveConverterIsNotBoxed() {
+    class Arg {
+      @Parameter(names = "-n", converter = TwiceConverter.class)
+      int n;
+    }
+    Arg arg = new Arg();
+    TwiceConverter.boxed = 0;
+    JCommander.newBuilder().addObject(arg).build().parse("-n", "21");
+    Assert.assertEquals(arg.n, 42);
+    Assert.assertEquals(TwiceConverter.boxed, 0);
+  }
+
+  public static class PlusOneConverter extends IntegerConverter {
+    public PlusOneConverter(String optionName) {
+      super(optionName);
+    }
+
+    @Override
+    public Integer convert(String value) {
+      return super.convert(value) + 1;
+    }
+  }
+
+  public void overriddenConvertIsUsed() {
+    class Arg {
+      @Parameter(names = "-n", converter = PlusOneConverter.class)
+      int n;
+    }
+    Arg arg = new Arg();
+    JCommander.newBuilder().addObject(arg).build().parse("-n", "41");
+    Assert.assertEquals(arg.n, 42);
+  }
+
+  public static class PortValidator implements IParametersValidator {
+    static Object port;
+
+    @Override
+    public void validate(Map<String, Object> parameters) throws ParameterException {
+      port = parameters.get("-port");
+    }
+  }
+
+  @Parameters(parametersValidators = PortValidator.class)
+  public static class Server {
+    @Parameter(names = "-port")
+    int port;
+  }
+
+  public void parametersValidatorsSeePrimitiveValues() {
+    PortValidator.port = null;
+    JCommander.newBuilder().addObject(new Server()).build().parse("-port", "8080");
+    Assert.assertEquals(PortValidator.port, 8080);
+  }
+}
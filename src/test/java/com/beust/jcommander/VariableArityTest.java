@@ -86,6 +86,47 @@ public class VariableArityTest {
     Assert.assertEquals(config.configFile, List.of("foo", "bar"));
   }
 
+  public static class IndexedVariableArity implements IVariableArity2 {
+    @Parameter(names = "-pair", variableArity = true)
+    public List<String> pair = new LinkedList<>();
+
+    @Parameter(names = "-v")
+    public boolean verbose;
+
+    @Parameter
+    public List<String> main = new LinkedList<>();
+
+    public int start = -1;
+
+    @Override
+    public int processVariableArity(String optionName, List<String> args, int start) {
+      this.start = start;
+      Assert.assertEquals(args.get(start - 1), optionName);
+      return 2;
+    }
+  }
+
+  @Test
+  public void verifyIndexedVariableArity() {
+    IndexedVariableArity args = new IndexedVariableArity();
+    new JCommander(args).parse("-v", "-pair", "a", "b", "c");
+
+    Assert.assertTrue(args.verbose);
+    Assert.assertEquals(args.start, 2);
+    Assert.assertEquals(args.pair, List.of("a", "b"));
+    Assert.assertEquals(args.main, List.of("c"));
+  }
+
+  @Test
+  public void verifyArrayVariableArityAdapter() {
+    IVariableArity2 adapter = IVariableArity2.of((optionName, options) -> {
+      Assert.assertEquals(optionName, "-m");
+      Assert.assertEquals(options, new String[] { "b", "c" });
+      return options.length;
+    });
+    Assert.assertEquals(adapter.processVariableArity("-m", List.of("-m", "a", "b", "c"), 2), 2);
+  }
+
   public static void main(String[] args) {
     new VariableArityTest().verifyVariableArity();
     new VariableArityTest().verifyVariableArity_unknownOptions();
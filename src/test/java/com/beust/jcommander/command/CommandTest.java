@@ -25,6 +25,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.List;
 
 public class CommandTest {
@@ -134,6 +135,28 @@ public class CommandTest {
     Assert.assertFalse(firstLine.endsWith(" "), "Usage should not have trailing spaces");
   }
 
+  @Test
+  public void atFilesAcrossCommands() throws Exception {
+    File commitFile = File.createTempFile("jcommander", "commit");
+    commitFile.deleteOnExit();
+    Files.write(commitFile.toPath(), List.of("-v", "commit", "--amend"));
+    File filesFile = File.createTempFile("jcommander", "files");
+    filesFile.deleteOnExit();
+    Files.write(filesFile.toPath(), List.of("A.java", "--author", "cbeust"));
+
+    CommandMain cm = new CommandMain();
+    JCommander jc = new JCommander(cm);
+    CommandCommit commit = new CommandCommit();
+    jc.addCommand("commit", commit);
+    jc.parse("@" + commitFile.getAbsolutePath(), "@" + filesFile.getAbsolutePath(), "B.java");
+
+    Assert.assertTrue(cm.verbose);
+    Assert.assertEquals(jc.getParsedCommand(), "commit");
+    Assert.assertTrue(commit.amend);
+    Assert.assertEquals(commit.author, "cbeust");
+    Assert.assertEquals(commit.files, List.of("A.java", "B.java"));
+  }
+
   @Test(expectedExceptions = ParameterException.class)
   public void validateSubCommand() throws Exception {
     JCommander jc = new JCommander(new CommandMain());
@@ -1,5 +1,6 @@
 package com.beust.jcommander.converters;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.testng.Assert;
@@ -24,4 +25,18 @@ public class CommaParameterSplitterTest {
     // Multiple values.
     Assert.assertEquals(List.of("a", "b", "c"), SPLITTER.split("a,b,c"));
   }
+
+  @Test
+  public void testSplitLikeStringSplit() {
+    for (String value : new String[] { ",", ",,", ",a", "a,", "a,,b", ",a,,", "a,b,,," }) {
+      Assert.assertEquals(SPLITTER.split(value), List.of(value.split(",")), value);
+    }
+  }
+
+  @Test
+  public void testPushSplit() {
+    List<String> result = new ArrayList<>();
+    SPLITTER.split("a,,b,", result::add);
+    Assert.assertEquals(result, List.of("a", "", "b"));
+  }
 }
@@ -43,6 +43,22 @@ public class EnumConverterTest {
         Assert.assertEquals(Resolution.R_1080P, RESOLUTION_ENUM_CONVERTER.convert("1080P"));
     }
     
+    @Test
+    public void testFirstDeclaredConstantWins() {
+        EnumConverter<Shadowed> converter = new EnumConverter<>("", Shadowed.class);
+        Assert.assertEquals(converter.convert("B"), Shadowed.A);
+        Assert.assertEquals(converter.convert("b"), Shadowed.A);
+    }
+
+    @Test
+    public void testMatchIgnoringCase() {
+        EnumConverter<Resolution> converter = new EnumConverter<>("", Resolution.class, false);
+        Assert.assertEquals(converter.convert("r_4k"), Resolution.R_4K);
+        Assert.assertEquals(converter.convert("1080p"), Resolution.R_1080P);
+        Assert.assertThrows(() -> new EnumConverter<>("", Lower.class).convert("Mixed"));
+        Assert.assertEquals(new EnumConverter<>("", Lower.class, false).convert("Mixed"), Lower.mixed);
+    }
+
     @Test
     public void testNoMatch() {
         Assert.assertThrows(() -> SEASON_ENUM_CONVERTER.convert("XXX"));
@@ -56,6 +72,19 @@ public class EnumConverterTest {
         WINTER
     }
     
+    private enum Shadowed {
+        A, B;
+
+        @Override
+        public String toString() {
+            return this == A ? "B" : name();
+        }
+    }
+
+    private enum Lower {
+        mixed
+    }
+
     private enum Resolution {
         R_4K, // can not start with a number
         R_1080P,
@@ -0,0 +1,71 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander.converters;
+
+import com.beust.jcommander.ParameterException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.assertEquals;
+
+@Test
+public class ISO8601DateConverterTest {
+
+  private final ISO8601DateConverter converter = new ISO8601DateConverter("-d");
+
+  private static Date date(int year, int month, int day) {
+    return Date.from(LocalDate.of(year, month, day).atStartOfDay(ZoneId.systemDefault()).toInstant());
+  }
+
+  @DataProvider(name = "supported")
+  public static Object[][] supported() {
+    return new Object[][]{
+            {"2023-05-11", date(2023, 5, 11)},
+            {"2023-5-1", date(2023, 5, 1)},
+            {"2023-02-30", date(2023, 3, 2)},
+            {"2023-13-45", date(2024, 2, 14)},
+            {"2023-05-11T10:00", date(2023, 5, 11)}
+    };
+  }
+
+  @Test(dataProvider = "supported")
+  public void supportedFormats_ShouldConvert(String value, Date expected) {
+    assertEquals(converter.convert(value), expected);
+  }
+
+  @Test(expectedExceptions = ParameterException.class)
+  public void unsupportedFormat_ShouldThrowException() {
+    converter.convert("11/05/2023");
+  }
+
+  public void concurrentConversions() {
+    List<Date> dates = IntStream.range(0, 10_000).parallel()
+            .mapToObj(i -> converter.convert("2023-01-%02d".formatted(i % 28 + 1)))
+            .toList();
+    for (int i = 0; i < dates.size(); i++) {
+      assertEquals(dates.get(i), date(2023, 1, i % 28 + 1));
+    }
+  }
+}
@@ -37,6 +37,7 @@ public class LocalDateConverterTest {
   public static Object[][] unsupported() {
     return new Object[][]{
             {"2023:05:11"},
+            {"2023-02-30"},
             {"asd"}
     };
   }
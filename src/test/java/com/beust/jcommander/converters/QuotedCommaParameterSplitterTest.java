@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2024 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.beust.jcommander.converters;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class QuotedCommaParameterSplitterTest {
+
+  private static final IParameterSplitter SPLITTER = new QuotedCommaParameterSplitter();
+
+  public void splitOutsideOfQuotes() {
+    Assert.assertEquals(SPLITTER.split("\"a,b\",c"), List.of("a,b", "c"));
+    Assert.assertEquals(SPLITTER.split("x\"a,b\"y"), List.of("xa,by"));
+    Assert.assertEquals(SPLITTER.split("a,b"), List.of("a", "b"));
+  }
+
+  public void backslashEscapes() {
+    Assert.assertEquals(SPLITTER.split("a\\,b,c"), List.of("a,b", "c"));
+    Assert.assertEquals(SPLITTER.split("\\\"a,\\\\"), List.of("\"a", "\\"));
+    Assert.assertEquals(SPLITTER.split("a\\"), List.of("a\\"));
+  }
+
+  public void quotedEmptyArgumentsAreKept() {
+    Assert.assertEquals(SPLITTER.split("a,\"\""), List.of("a", ""));
+    Assert.assertEquals(SPLITTER.split("\"\",,a,,"), List.of("", "", "a"));
+  }
+
+  @Test(expectedExceptions = ParameterException.class)
+  public void unterminatedQuote() {
+    SPLITTER.split("\"a,b");
+  }
+
+  public void usedByAListParameter() {
+    class Args {
+      @Parameter(names = "-tags", splitter = QuotedCommaParameterSplitter.class)
+      List<String> tags;
+    }
+    Args args = new Args();
+    JCommander.newBuilder().addObject(args).build().parse("-tags", "\"x,y\",z");
+    Assert.assertEquals(args.tags, List.of("x,y", "z"));
+  }
+}
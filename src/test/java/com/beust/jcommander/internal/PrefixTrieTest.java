@@ -0,0 +1,58 @@
+package com.beust.jcommander.internal;
+
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class PrefixTrieTest {
+  public void exactLookup() {
+    PrefixTrie<Integer> trie = new PrefixTrie<>(true);
+    trie.put("--param", 1);
+    trie.put("--parb", 2);
+    Assert.assertEquals(trie.get("--param"), Integer.valueOf(1));
+    Assert.assertEquals(trie.get("--parb"), Integer.valueOf(2));
+    Assert.assertNull(trie.get("--par"));
+    Assert.assertNull(trie.get("--PARAM"));
+  }
+
+  public void prefixLookup() {
+    PrefixTrie<Integer> trie = new PrefixTrie<>(true);
+    trie.put("--param", 1);
+    trie.put("--parb", 2);
+    trie.put("-p", 3);
+    Assert.assertEquals(trie.countPrefixedBy("--par"), 2);
+    Assert.assertNull(trie.findUniquePrefixedBy("--par"));
+    Assert.assertEquals(trie.findUniquePrefixedBy("--para"), Integer.valueOf(1));
+    Assert.assertEquals(trie.countPrefixedBy("-x"), 0);
+    Assert.assertEquals(trie.namesPrefixedBy("--"), List.of("--param", "--parb"));
+  }
+
+  public void longestPrefix() {
+    PrefixTrie<Integer> trie = new PrefixTrie<>(true);
+    trie.put("-D", 1);
+    trie.put("-Dfoo", 2);
+    Assert.assertEquals(trie.findLongestPrefixOf("-Dfoo=bar"), Integer.valueOf(2));
+    Assert.assertEquals(trie.findLongestPrefixOf("-Dfo=bar"), Integer.valueOf(1));
+    Assert.assertEquals(trie.findLongestPrefixOf("-Dfoo", 4), Integer.valueOf(1));
+    Assert.assertNull(trie.findLongestPrefixOf("-x"));
+  }
+
+  public void caseInsensitive() {
+    PrefixTrie<Integer> trie = new PrefixTrie<>(false);
+    trie.put("--Param", 1);
+    trie.put("--param", 2);
+    Assert.assertEquals(trie.get("--PARAM"), Integer.valueOf(1));
+    Assert.assertEquals(trie.countPrefixedBy("--PA"), 2);
+    Assert.assertEquals(trie.namesPrefixedBy("--pa"), List.of("--Param", "--param"));
+  }
+
+  public void duplicateNamesAreCountedOnce() {
+    PrefixTrie<Integer> trie = new PrefixTrie<>(true);
+    trie.put("-v", 1);
+    trie.put("-v", 2);
+    Assert.assertEquals(trie.countPrefixedBy("-"), 1);
+    Assert.assertEquals(trie.get("-v"), Integer.valueOf(1));
+  }
+}
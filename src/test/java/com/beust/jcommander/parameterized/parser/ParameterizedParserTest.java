@@ -1,10 +1,13 @@
 package com.beust.jcommander.parameterized.parser;
 
 import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
 import com.beust.jcommander.ParameterDescription;
 import com.beust.jcommander.Parameterized;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -53,6 +56,72 @@ public class ParameterizedParserTest {
     Assert.assertTrue(EXPECTED_LOG_LEVEL.equals(commandOptions.subCommands.loggingLevel), "Log level is not " + EXPECTED_LOG_LEVEL);
   }
   
+  @Test
+  public void classesAreAnalyzedOnce() {
+    List<Parameterized> first = Parameterized.parseArg(new StandardCommandClassExample_01());
+    List<Parameterized> second = Parameterized.parseArg(new StandardCommandClassExample_01());
+    Assert.assertEquals(first.size(), second.size());
+    for (int i = 0; i < first.size(); i++) {
+      Assert.assertSame(first.get(i), second.get(i));
+    }
+  }
+
+  public static class Accessors {
+    @Parameter(names = "-count")
+    int count;
+
+    private String name;
+
+    @Parameter(names = "-name")
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return "get:" + name;
+    }
+  }
+
+  @Test
+  public void valuesAreSetAndReadThroughAccessors() {
+    Accessors accessors = new Accessors();
+    Map<String, Parameterized> parameterized = new HashMap<>();
+    for (Parameterized p : Parameterized.parseArg(accessors)) {
+      parameterized.put(p.getName(), p);
+    }
+    Parameterized count = parameterized.get("count");
+    Parameterized name = parameterized.get("setName");
+
+    count.set(accessors, 42);
+    Assert.assertEquals(accessors.count, 42);
+    Assert.assertEquals(count.get(accessors), 42);
+    name.set(accessors, "foo");
+    Assert.assertEquals(name.get(accessors), "get:foo");
+
+    Assert.assertThrows(ParameterException.class, () -> count.set(accessors, "42"));
+    Assert.assertThrows(ParameterException.class, () -> count.set(accessors, null));
+    Assert.assertThrows(ParameterException.class, () -> name.set(accessors, 42));
+  }
+
+  public static class StaticFields {
+    @Parameter(names = "-s")
+    static String s;
+
+    @Parameter(names = "-n")
+    static int n;
+  }
+
+  @Test
+  public void staticFieldsAreSetAndRead() {
+    StaticFields fields = new StaticFields();
+    JCommander.newBuilder().addObject(fields).build().parse("-s", "v", "-n", "3");
+    Assert.assertEquals(StaticFields.s, "v");
+    Assert.assertEquals(StaticFields.n, 3);
+    for (Parameterized p : Parameterized.parseArg(fields)) {
+      Assert.assertEquals(p.get(fields), p.getName().equals("s") ? "v" : 3);
+    }
+  }
+
   @Test
   public void jsonParameterizedParsingTest() {
     JsonCommandClassExample_01 commandOptions = new JsonCommandClassExample_01();
@@ -0,0 +1,190 @@
+package com.beust.jcommander.processor;
+
+import com.beust.jcommander.IParametersBinder;
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameterized;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class BinderProcessorTest {
+  private static final String ARGS = """
+      package test;
+
+      import com.beust.jcommander.*;
+      import java.util.*;
+
+      public class Args extends Base {
+        @Parameter(names = "-verbose")
+        private int verbose;
+
+        @Parameter(names = "-name", description = "The name")
+        String name = "default";
+
+        @Parameter(names = "-values")
+        List<Integer> values;
+
+        @Parameter
+        List<Integer> main = new ArrayList<>();
+
+        @DynamicParameter(names = "-D")
+        Map<String, String> params = new HashMap<>();
+
+        @ParametersDelegate
+        final Delegate delegate = new Delegate();
+
+        private String mode;
+
+        @Parameter(names = "-mode")
+        private void setMode(String mode) {
+          this.mode = mode.toUpperCase();
+        }
+
+        public String getMode() {
+          return mode;
+        }
+
+        public static class Delegate {
+          @Parameter(names = "-port")
+          public int port;
+        }
+      }
+
+      class Base {
+        @Parameter(names = "-debug")
+        boolean debug;
+      }
+      """;
+
+  private static final String NOT_BOUND = """
+      package test;
+
+      import com.beust.jcommander.*;
+
+      public class NotBound {
+        @Parameter(names = "-final")
+        final String value = null;
+      }
+      """;
+
+  private static final String METHOD_DELEGATE = """
+      package test;
+
+      import com.beust.jcommander.*;
+
+      public class MethodDelegate {
+        private Args.Delegate delegate = new Args.Delegate();
+
+        @ParametersDelegate
+        public void setDelegate(Args.Delegate delegate) {
+          this.delegate = delegate;
+        }
+
+        public Args.Delegate getDelegate() {
+          return delegate;
+        }
+      }
+      """;
+
+  private static ClassLoader compile(Path dir, String... sources) throws IOException {
+    StringWriter output = new StringWriter();
+    Assert.assertTrue(compile(dir, output, sources), output.toString());
+    return new URLClassLoader(new URL[] { dir.resolve("out").toUri().toURL() },
+        BinderProcessorTest.class.getClassLoader());
+  }
+
+  private static boolean compile(Path dir, StringWriter output, String... sources) throws IOException {
+    Path src = Files.createDirectories(dir.resolve("src/test"));
+    Path out = Files.createDirectories(dir.resolve("out"));
+    List<Path> files = new java.util.ArrayList<>();
+    for (String source : sources) {
+      String name = source.replaceAll("(?s).*public class (\\w+).*", "$1");
+      files.add(Files.writeString(src.resolve(name + ".java"), source));
+    }
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    return compiler.getTask(output, null, null,
+        List.of("-d", out.toString(), "-classpath", System.getProperty("java.class.path"),
+            "-processor", BinderProcessor.class.getName()),
+        null, compiler.getStandardFileManager(null, null, null).getJavaFileObjectsFromPaths(files))
+        .call();
+  }
+
+  private static Object field(Object object, String name) throws ReflectiveOperationException {
+    return field(object.getClass(), object, name);
+  }
+
+  private static Object field(Class<?> cls, Object object, String name) throws ReflectiveOperationException {
+    Field field = cls.getDeclaredField(name);
+    field.setAccessible(true);
+    return field.get(object);
+  }
+
+  public void generatedBinderBindsParameters() throws Exception {
+    Path dir = Files.createTempDirectory("binder");
+    ClassLoader loader = compile(dir, ARGS, NOT_BOUND);
+    Class<?> argsClass = loader.loadClass("test.Args");
+
+    // No binder for NotBound, which has a final parameter
+    List<String> bound = ServiceLoader.load(IParametersBinder.class, loader).stream()
+        .map(p -> p.get().getType().getName())
+        .sorted()
+        .collect(Collectors.toList());
+    Assert.assertEquals(bound, List.of("test.Args", "test.Args$Delegate", "test.Base"));
+
+    Object args = argsClass.getConstructor().newInstance();
+    Assert.assertEquals(Parameterized.parseArg(args).stream().map(Parameterized::getName).sorted()
+        .collect(Collectors.toList()),
+        Arrays.asList("debug", "delegate", "main", "name", "params", "setMode", "values", "verbose"));
+    // Found by reflection, the parameter of a field is equal to a parameterized of that field,
+    // while the ones described by a binder have no field
+    Parameterized verbose = new Parameterized(null, null, argsClass.getDeclaredField("verbose"), null);
+    Assert.assertFalse(Parameterized.parseArg(args).contains(verbose));
+    Object reflected = new Object() {
+      @Parameter(names = "-verbose")
+      int verbose;
+    };
+    Assert.assertTrue(Parameterized.parseArg(reflected).contains(
+        new Parameterized(null, null, reflected.getClass().getDeclaredField("verbose"), null)));
+
+    JCommander jc = JCommander.newBuilder().addObject(args).build();
+    jc.parse("-verbose", "3", "-values", "1,2", "-Dk=v", "-mode", "fast", "-port", "80", "-debug", "4", "5");
+    Assert.assertEquals(field(args, "verbose"), 3);
+    Assert.assertEquals(field(args, "name"), "default");
+    Assert.assertEquals(field(args, "values"), List.of(1, 2));
+    Assert.assertEquals(field(args, "main"), List.of(4, 5));
+    Assert.assertEquals(field(args, "params"), Map.of("k", "v"));
+    Assert.assertEquals(field(args, "mode"), "FAST");
+    Assert.assertEquals(field(field(args, "delegate"), "port"), 80);
+    Assert.assertEquals(field(argsClass.getSuperclass(), args, "debug"), true);
+
+    StringBuilder usage = new StringBuilder();
+    jc.getUsageFormatter().usage(usage);
+    Assert.assertTrue(usage.toString().contains("The name"), usage.toString());
+  }
+
+  public void delegateMethodIsNotBound() throws Exception {
+    // @ParametersDelegate only applies to fields, so a binder never sees it on a method
+    Path dir = Files.createTempDirectory("binder");
+    StringWriter output = new StringWriter();
+    Assert.assertFalse(compile(dir, output, ARGS, METHOD_DELEGATE));
+    Assert.assertTrue(output.toString().contains("not applicable"), output.toString());
+    Assert.assertFalse(Files.exists(dir.resolve("out/test/MethodDelegate_JCommanderBinder.java")));
+  }
+}